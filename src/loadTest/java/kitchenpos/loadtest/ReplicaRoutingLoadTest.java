@@ -0,0 +1,249 @@
+package kitchenpos.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ReplicaRoutingLoadTest {
+    private static final String PREFIX = "kitchenpos.loadtest.";
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+    private final String baseUrl;
+    private final int readers;
+    private final int writers;
+    private final long warmupNanos;
+    private final long durationNanos;
+    private final List<String> readPaths;
+    private final byte[] orderBody;
+
+    public ReplicaRoutingLoadTest(
+        final String baseUrl,
+        final int readers,
+        final int writers,
+        final long warmupSeconds,
+        final long durationSeconds,
+        final List<String> readPaths,
+        final String orderBody
+    ) {
+        this.baseUrl = baseUrl;
+        this.readers = readers;
+        this.writers = writers;
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(warmupSeconds);
+        this.durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        this.readPaths = readPaths;
+        this.orderBody = orderBody.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final String orderBody = "{\"type\":\"" + property("order-type", "TAKEOUT") + "\","
+            + "\"orderLineItems\":[{\"menuId\":\"" + property("menu-id", "f59b1e1c-b145-440a-aa6f-6095a0e2d63b") + "\","
+            + "\"price\":" + property("menu-price", "16000") + ","
+            + "\"quantity\":" + property("quantity", "3") + "}]}";
+        new ReplicaRoutingLoadTest(
+            property("base-url", "http://localhost:8080"),
+            Integer.parseInt(property("readers", "32")),
+            Integer.parseInt(property("writers", "4")),
+            Long.parseLong(property("warmup", "2")),
+            Long.parseLong(property("duration", "8")),
+            Arrays.asList(property("read-paths", "/api/menus,/api/products").split(",")),
+            orderBody
+        ).run();
+    }
+
+    public void run() throws Exception {
+        final double[] routesBefore = routes();
+        final long start = System.nanoTime();
+        final long measureFrom = start + warmupNanos;
+        final long end = measureFrom + durationNanos;
+        final ExecutorService executor = Executors.newFixedThreadPool(readers + writers);
+        try {
+            final List<Future<Result>> reads = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                final int offset = i;
+                reads.add(executor.submit(worker(measureFrom, end, index -> get(readPaths.get((offset + index) % readPaths.size())))));
+            }
+            final List<Future<Result>> writes = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                writes.add(executor.submit(worker(measureFrom, end, index -> post("/api/orders", orderBody))));
+            }
+            final Result read = collect(reads);
+            final Result write = collect(writes);
+            final double[] routesAfter = routes();
+            final double seconds = durationNanos / 1e9;
+            System.out.printf("base-url=%s readers=%d writers=%d warmup=%ds duration=%ds%n",
+                baseUrl, readers, writers, TimeUnit.NANOSECONDS.toSeconds(warmupNanos), TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+            System.out.printf("writes: %d ok, %d failed, %.1f/s, p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms%n",
+                write.size(), write.failures, write.size() / seconds,
+                write.percentile(50), write.percentile(90), write.percentile(99), write.percentile(100));
+            System.out.printf("reads: %d ok, %d failed, %.1f/s, p50=%.1fms p99=%.1fms%n",
+                read.size(), read.failures, read.size() / seconds, read.percentile(50), read.percentile(99));
+            if (routesBefore == null || routesAfter == null) {
+                System.out.println("routes: n/a (expose the metrics endpoint and enable kitchenpos.datasource.replica)");
+            } else {
+                System.out.printf("routes: replica=%.0f primary=%.0f%n",
+                    routesAfter[0] - routesBefore[0], routesAfter[1] - routesBefore[1]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<Result> worker(final long measureFrom, final long end, final Request request) {
+        return () -> {
+            final Result result = new Result();
+            for (int index = 0; ; index++) {
+                final long begin = System.nanoTime();
+                if (begin >= end) {
+                    return result;
+                }
+                boolean succeeded;
+                try {
+                    final int status = request.send(index);
+                    succeeded = status >= 200 && status < 300;
+                } catch (final IOException e) {
+                    succeeded = false;
+                }
+                final long elapsed = System.nanoTime() - begin;
+                if (begin < measureFrom) {
+                    continue;
+                }
+                if (succeeded) {
+                    result.add(elapsed);
+                } else {
+                    result.failures++;
+                }
+            }
+        };
+    }
+
+    private static Result collect(final List<Future<Result>> futures) throws Exception {
+        final Result merged = new Result();
+        for (final Future<Result> future : futures) {
+            merged.merge(future.get());
+        }
+        return merged;
+    }
+
+    private int get(final String path) throws IOException {
+        final HttpURLConnection connection = open(path);
+        return exchange(connection, null);
+    }
+
+    private int post(final String path, final byte[] body) throws IOException {
+        final HttpURLConnection connection = open(path);
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setDoOutput(true);
+        return exchange(connection, body);
+    }
+
+    private HttpURLConnection open(final String path) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setConnectTimeout(5_000);
+        connection.setReadTimeout(30_000);
+        return connection;
+    }
+
+    private static int exchange(final HttpURLConnection connection, final byte[] body) throws IOException {
+        if (body != null) {
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body);
+            }
+        }
+        final int status = connection.getResponseCode();
+        drain(connection, status);
+        return status;
+    }
+
+    private static String drain(final HttpURLConnection connection, final int status) throws IOException {
+        final InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        if (in == null) {
+            return "";
+        }
+        try (InputStream stream = in) {
+            final StringBuilder text = new StringBuilder();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                text.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+            }
+            return text.toString();
+        }
+    }
+
+    private double[] routes() {
+        try {
+            final HttpURLConnection connection = open("/actuator/metrics");
+            final int status = connection.getResponseCode();
+            drain(connection, status);
+            if (status != 200) {
+                return null;
+            }
+            return new double[]{route("replica"), route("primary")};
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private double route(final String target) throws IOException {
+        final HttpURLConnection connection = open("/actuator/metrics/kitchenpos.datasource.routes?tag=target:" + target);
+        final int status = connection.getResponseCode();
+        final Matcher matcher = METRIC_VALUE.matcher(drain(connection, status));
+        return status == 200 && matcher.find() ? Double.parseDouble(matcher.group(1)) : 0;
+    }
+
+    private static String property(final String name, final String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private interface Request {
+        int send(int index) throws IOException;
+    }
+
+    private static class Result {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long failures;
+
+        void add(final long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        void merge(final Result other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.latencies[i]);
+            }
+            failures += other.failures;
+        }
+
+        int size() {
+            return size;
+        }
+
+        double percentile(final double percentile) {
+            if (size == 0) {
+                return Double.NaN;
+            }
+            final long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            final int rank = (int) Math.ceil(percentile / 100 * size);
+            return sorted[Math.max(rank, 1) - 1] / 1e6;
+        }
+    }
+}
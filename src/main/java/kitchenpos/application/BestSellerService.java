@@ -0,0 +1,157 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import kitchenpos.domain.BestSeller;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderLineItemSummary;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.SpaceSaving;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class BestSellerService {
+    private static final Comparator<BestSeller> RANKING = Comparator.comparingLong(BestSeller::getQuantity)
+        .reversed()
+        .thenComparingLong(BestSeller::getError);
+
+    private final int capacity;
+    private final long bucketMinutes;
+    private final Bucket[] buckets;
+    private final Map<UUID, String> menuNames = new HashMap<>();
+
+    public BestSellerService(
+        @Value("${kitchenpos.best-sellers.window-minutes}") final int windowMinutes,
+        @Value("${kitchenpos.best-sellers.bucket-minutes}") final int bucketMinutes,
+        @Value("${kitchenpos.best-sellers.capacity}") final int capacity
+    ) {
+        if (bucketMinutes <= 0 || windowMinutes < bucketMinutes || windowMinutes % bucketMinutes != 0) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        this.bucketMinutes = bucketMinutes;
+        this.buckets = new Bucket[windowMinutes / bucketMinutes];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket(capacity);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(final OrderCreatedEvent event) {
+        final OrderSummary order = event.getOrder();
+        final long index = bucketIndex(order.getOrderDateTime());
+        synchronized (this) {
+            final Bucket bucket = buckets[slot(index)];
+            if (bucket.index > index) {
+                return;
+            }
+            if (bucket.index < index) {
+                bucket.reset(index);
+                retainLiveMenuNames();
+            }
+            for (final OrderLineItemSummary orderLineItem : order.getOrderLineItems()) {
+                if (orderLineItem.getQuantity() > 0L) {
+                    final UUID evicted = bucket.sketch.add(orderLineItem.getMenuId(), orderLineItem.getQuantity());
+                    menuNames.put(orderLineItem.getMenuId(), orderLineItem.getMenuName());
+                    if (evicted != null && !isCounted(evicted)) {
+                        menuNames.remove(evicted);
+                    }
+                }
+            }
+        }
+    }
+
+    public List<BestSeller> findAll(final int size) {
+        return findAll(size, LocalDateTime.now());
+    }
+
+    List<BestSeller> findAll(final int size, final LocalDateTime now) {
+        if (size <= 0 || size > capacity) {
+            throw new IllegalArgumentException();
+        }
+        final long newest = bucketIndex(now);
+        final Map<UUID, long[]> estimates = new HashMap<>();
+        long absentCount = 0L;
+        final List<BestSeller> result = new ArrayList<>();
+        synchronized (this) {
+            for (final Bucket bucket : buckets) {
+                if (!bucket.isLive(newest, buckets.length)) {
+                    continue;
+                }
+                final long minCount = bucket.sketch.getMinCount();
+                absentCount += minCount;
+                for (final SpaceSaving.Counter<UUID> counter : bucket.sketch.getCounters()) {
+                    final long[] estimate = estimates.computeIfAbsent(counter.getKey(), key -> new long[2]);
+                    estimate[0] += counter.getCount() - minCount;
+                    estimate[1] += counter.getError() - minCount;
+                }
+            }
+            for (final Map.Entry<UUID, long[]> estimate : estimates.entrySet()) {
+                result.add(new BestSeller(
+                    estimate.getKey(),
+                    menuNames.get(estimate.getKey()),
+                    estimate.getValue()[0] + absentCount,
+                    estimate.getValue()[1] + absentCount
+                ));
+            }
+        }
+        result.sort(RANKING);
+        return result.size() > size ? new ArrayList<>(result.subList(0, size)) : result;
+    }
+
+    private boolean isCounted(final UUID menuId) {
+        for (final Bucket bucket : buckets) {
+            if (bucket.sketch.contains(menuId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void retainLiveMenuNames() {
+        final Set<UUID> live = new HashSet<>();
+        for (final Bucket bucket : buckets) {
+            for (final SpaceSaving.Counter<UUID> counter : bucket.sketch.getCounters()) {
+                live.add(counter.getKey());
+            }
+        }
+        menuNames.keySet().retainAll(live);
+    }
+
+    private long bucketIndex(final LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC) / 60L, bucketMinutes);
+    }
+
+    private int slot(final long index) {
+        return (int) Math.floorMod(index, (long) buckets.length);
+    }
+
+    private static class Bucket {
+        private final SpaceSaving<UUID> sketch;
+        private long index = Long.MIN_VALUE;
+
+        private Bucket(final int capacity) {
+            this.sketch = new SpaceSaving<>(capacity);
+        }
+
+        private void reset(final long index) {
+            this.index = index;
+            sketch.clear();
+        }
+
+        private boolean isLive(final long newest, final int length) {
+            return index <= newest && index > newest - length;
+        }
+    }
+}
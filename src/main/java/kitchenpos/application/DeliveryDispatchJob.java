@@ -0,0 +1,18 @@
+package kitchenpos.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DeliveryDispatchJob {
+    private final DeliveryDispatchService deliveryDispatchService;
+
+    public DeliveryDispatchJob(final DeliveryDispatchService deliveryDispatchService) {
+        this.deliveryDispatchService = deliveryDispatchService;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery-batch.tick}")
+    public void run() {
+        deliveryDispatchService.flush();
+    }
+}
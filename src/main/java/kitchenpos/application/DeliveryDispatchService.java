@@ -0,0 +1,173 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import kitchenpos.domain.PendingDelivery;
+import kitchenpos.domain.PendingDeliveryRepository;
+import kitchenpos.infra.DeliveryRequest;
+import kitchenpos.infra.KitchenridersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class DeliveryDispatchService {
+    private static final Logger log = LoggerFactory.getLogger(DeliveryDispatchService.class);
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final PendingDeliveryRepository pendingDeliveryRepository;
+    private final KitchenridersClient kitchenridersClient;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Counter dropped;
+
+    public DeliveryDispatchService(
+        final PendingDeliveryRepository pendingDeliveryRepository,
+        final KitchenridersClient kitchenridersClient,
+        @Value("${kitchenpos.delivery-batch.window}") final long windowMillis,
+        @Value("${kitchenpos.delivery-batch.max-size}") final int maxBatchSize,
+        @Value("${kitchenpos.delivery-batch.max-attempts}") final int maxAttempts,
+        @Value("${kitchenpos.delivery-batch.retry-backoff}") final long retryBackoffMillis,
+        final MeterRegistry meterRegistry
+    ) {
+        if (windowMillis < 0L || maxBatchSize <= 0 || maxAttempts <= 0 || retryBackoffMillis < 0L) {
+            throw new IllegalArgumentException();
+        }
+        this.pendingDeliveryRepository = pendingDeliveryRepository;
+        this.kitchenridersClient = kitchenridersClient;
+        this.window = Duration.ofMillis(windowMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+        this.dropped = meterRegistry.counter("kitchenpos.deliveries.dropped");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        final OrderSummary order = event.getOrder();
+        if (order.getType() != OrderType.DELIVERY || order.getStatus() != OrderStatus.ACCEPTED) {
+            return;
+        }
+        enqueue(new DeliveryRequest(order.getId(), order.getTotalAmount(), order.getDeliveryAddress()), LocalDateTime.now());
+    }
+
+    public void flush() {
+        flush(LocalDateTime.now());
+    }
+
+    void enqueue(final DeliveryRequest deliveryRequest, final LocalDateTime now) {
+        pendingDeliveryRepository.save(new PendingDelivery(
+            deliveryRequest.getOrderId(),
+            normalize(deliveryRequest.getDeliveryAddress()),
+            deliveryRequest.getDeliveryAddress(),
+            deliveryRequest.getAmount(),
+            0,
+            now.plus(window),
+            now
+        ));
+    }
+
+    void flush(final LocalDateTime now) {
+        final Map<String, List<PendingDelivery>> groups = new LinkedHashMap<>();
+        for (final PendingDelivery pendingDelivery : pendingDeliveryRepository.findAllDispatchable(now, maxBatchSize)) {
+            groups.computeIfAbsent(pendingDelivery.getAddressKey(), key -> new ArrayList<>())
+                .add(pendingDelivery);
+        }
+        for (final List<PendingDelivery> group : groups.values()) {
+            if (group.stream().anyMatch(pendingDelivery -> !pendingDelivery.getDueAt().isAfter(now))) {
+                sendAll(group, now);
+                continue;
+            }
+            final List<PendingDelivery> fresh = new ArrayList<>();
+            for (final PendingDelivery pendingDelivery : group) {
+                if (pendingDelivery.getAttempts() == 0) {
+                    fresh.add(pendingDelivery);
+                }
+            }
+            sendAll(fresh.subList(0, fresh.size() - fresh.size() % maxBatchSize), now);
+        }
+    }
+
+    private void sendAll(final List<PendingDelivery> pendingDeliveries, final LocalDateTime now) {
+        for (int from = 0; from < pendingDeliveries.size(); from += maxBatchSize) {
+            send(pendingDeliveries.subList(from, Math.min(from + maxBatchSize, pendingDeliveries.size())), now);
+        }
+    }
+
+    private void send(final List<PendingDelivery> batch, final LocalDateTime now) {
+        final List<DeliveryRequest> deliveryRequests = new ArrayList<>(batch.size());
+        final List<UUID> orderIds = new ArrayList<>(batch.size());
+        for (final PendingDelivery pendingDelivery : batch) {
+            deliveryRequests.add(new DeliveryRequest(
+                pendingDelivery.getOrderId(),
+                pendingDelivery.getAmount(),
+                pendingDelivery.getDeliveryAddress()
+            ));
+            orderIds.add(pendingDelivery.getOrderId());
+        }
+        final String address = batch.get(0).getAddressKey();
+        try {
+            kitchenridersClient.requestDeliveries(deliveryRequests);
+        } catch (final RejectedExecutionException e) {
+            log.warn("Postponed {} deliveries to {} while the rider service rejects calls", batch.size(), address);
+            pendingDeliveryRepository.postponeAllByOrderIdIn(orderIds, now.plus(retryBackoff));
+            return;
+        } catch (final RuntimeException e) {
+            log.warn("Failed to request {} deliveries to {}", batch.size(), address, e);
+            retry(batch, now);
+            return;
+        }
+        pendingDeliveryRepository.deleteAllByOrderIdIn(orderIds);
+    }
+
+    private void retry(final List<PendingDelivery> batch, final LocalDateTime now) {
+        final List<UUID> retries = new ArrayList<>();
+        final List<UUID> exhausted = new ArrayList<>();
+        int attempts = 0;
+        for (final PendingDelivery pendingDelivery : batch) {
+            final int attempt = pendingDelivery.getAttempts() + 1;
+            if (attempt >= maxAttempts) {
+                log.error("Giving up delivery request for order {} ({}, {}) after {} attempts",
+                    pendingDelivery.getOrderId(), pendingDelivery.getAmount(), pendingDelivery.getDeliveryAddress(), attempt);
+                exhausted.add(pendingDelivery.getOrderId());
+                dropped.increment();
+            } else {
+                retries.add(pendingDelivery.getOrderId());
+                attempts = Math.max(attempts, attempt);
+            }
+        }
+        if (!exhausted.isEmpty()) {
+            pendingDeliveryRepository.failAllByOrderIdIn(exhausted, now);
+        }
+        if (!retries.isEmpty()) {
+            final long backoff = retryBackoff.toMillis() << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+            pendingDeliveryRepository.retryAllByOrderIdIn(retries, now.plus(Duration.ofMillis(backoff)));
+        }
+    }
+
+    private static String normalize(final String deliveryAddress) {
+        return Normalizer.normalize(deliveryAddress, Normalizer.Form.NFKC)
+            .trim()
+            .replaceAll("\\s+", " ")
+            .toLowerCase(Locale.ROOT);
+    }
+}
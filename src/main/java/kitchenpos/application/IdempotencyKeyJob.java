@@ -0,0 +1,22 @@
+package kitchenpos.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IdempotencyKeyJob {
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyJob.class);
+
+    private final OrderIdempotencyService orderIdempotencyService;
+
+    public IdempotencyKeyJob(final OrderIdempotencyService orderIdempotencyService) {
+        this.orderIdempotencyService = orderIdempotencyService;
+    }
+
+    @Scheduled(cron = "${kitchenpos.idempotency.purge-cron}")
+    public void run() {
+        log.info("Purged {} expired idempotency keys", orderIdempotencyService.purge());
+    }
+}
@@ -0,0 +1,250 @@
+package kitchenpos.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import kitchenpos.domain.KitchenTicket;
+import kitchenpos.domain.KitchenWorkloadItem;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.OrderLineItemSummary;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class KitchenTicketService {
+    private static final Comparator<Entry> PRIORITY = Comparator.comparing((Entry entry) -> entry.ticket.getStartBy())
+        .thenComparing(entry -> entry.ticket.getPromisedAt())
+        .thenComparingLong(entry -> entry.sequence);
+
+    private final OrderRepository orderRepository;
+    private final MenuRepository menuRepository;
+    private final Map<UUID, String> stations;
+    private final String defaultStation;
+    private final Map<OrderType, Duration> promises = new EnumMap<>(OrderType.class);
+    private final Duration prepTimePerItem;
+    private final Map<UUID, List<StationItem>> menuCompositions = new ConcurrentHashMap<>();
+    private final Map<String, PriorityBlockingQueue<Entry>> queues = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Entry>> openOrders = new HashMap<>();
+    private final Set<UUID> closedWhileRebuilding = new HashSet<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private boolean rebuilding;
+
+    public KitchenTicketService(
+        final OrderRepository orderRepository,
+        final MenuRepository menuRepository,
+        @Value("#{${kitchenpos.kitchen.stations}}") final Map<String, String> stations,
+        @Value("${kitchenpos.kitchen.default-station}") final String defaultStation,
+        @Value("#{${kitchenpos.kitchen.promise-minutes}}") final Map<String, Long> promiseMinutes,
+        @Value("${kitchenpos.kitchen.prep-seconds-per-item}") final long prepSecondsPerItem
+    ) {
+        this.orderRepository = orderRepository;
+        this.menuRepository = menuRepository;
+        this.stations = new HashMap<>();
+        for (final Map.Entry<String, String> station : stations.entrySet()) {
+            this.stations.put(UUID.fromString(station.getKey()), station.getValue());
+        }
+        this.defaultStation = defaultStation;
+        for (final OrderType type : OrderType.values()) {
+            final Long minutes = promiseMinutes.get(type.name());
+            if (Objects.isNull(minutes)) {
+                throw new IllegalArgumentException();
+            }
+            promises.put(type, Duration.ofMinutes(minutes));
+        }
+        this.prepTimePerItem = Duration.ofSeconds(prepSecondsPerItem);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+            closedWhileRebuilding.clear();
+        }
+        final List<OrderSummary> orders = orderRepository.findAllSummariesByStatusIn(
+            Collections.singleton(OrderStatus.ACCEPTED)
+        );
+        loadCompositions(orders);
+        synchronized (this) {
+            for (final OrderSummary order : orders) {
+                if (!closedWhileRebuilding.contains(order.getId())) {
+                    open(order);
+                }
+            }
+            rebuilding = false;
+            closedWhileRebuilding.clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        final OrderSummary order = event.getOrder();
+        if (order.getStatus() == OrderStatus.ACCEPTED) {
+            final OrderSummary accepted = order.withOrderLineItems(orderRepository.findAllLineItemSummariesByOrderId(order.getId()));
+            loadCompositions(Collections.singletonList(accepted));
+            synchronized (this) {
+                open(accepted);
+            }
+            return;
+        }
+        synchronized (this) {
+            close(order.getId());
+        }
+    }
+
+    public Optional<KitchenTicket> next(final String station) {
+        final PriorityBlockingQueue<Entry> queue = queues.get(station);
+        if (Objects.isNull(queue)) {
+            return Optional.empty();
+        }
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            if (entry.taken.compareAndSet(false, true)) {
+                return Optional.of(entry.ticket);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<KitchenTicket> findAll(final String station) {
+        final PriorityBlockingQueue<Entry> queue = queues.get(station);
+        if (Objects.isNull(queue)) {
+            return Collections.emptyList();
+        }
+        return queue.stream()
+            .filter(entry -> !entry.taken.get())
+            .sorted(PRIORITY)
+            .map(entry -> entry.ticket)
+            .collect(Collectors.toList());
+    }
+
+    private void loadCompositions(final List<OrderSummary> orders) {
+        for (final OrderSummary order : orders) {
+            for (final OrderLineItemSummary orderLineItem : order.getOrderLineItems()) {
+                menuCompositions.computeIfAbsent(orderLineItem.getMenuId(), this::findComposition);
+            }
+        }
+    }
+
+    private List<StationItem> findComposition(final UUID menuId) {
+        return menuRepository.findWithMenuProductsById(menuId)
+            .map(menu -> menu.getMenuProducts()
+                .stream()
+                .map(this::toStationItem)
+                .collect(Collectors.toList()))
+            .orElse(Collections.emptyList());
+    }
+
+    private StationItem toStationItem(final MenuProduct menuProduct) {
+        final UUID productId = menuProduct.getProduct().getId();
+        return new StationItem(
+            stations.getOrDefault(productId, defaultStation),
+            new KitchenWorkloadItem(productId, menuProduct.getProduct().getName(), menuProduct.getQuantity())
+        );
+    }
+
+    private void open(final OrderSummary order) {
+        if (openOrders.containsKey(order.getId())) {
+            return;
+        }
+        final List<Entry> entries = new ArrayList<>();
+        for (final KitchenTicket ticket : split(order)) {
+            final Entry entry = new Entry(ticket, sequence.incrementAndGet());
+            entries.add(entry);
+            queues.computeIfAbsent(ticket.getStation(), key -> new PriorityBlockingQueue<>(64, PRIORITY)).add(entry);
+        }
+        openOrders.put(order.getId(), entries);
+    }
+
+    private void close(final UUID orderId) {
+        final List<Entry> entries = openOrders.remove(orderId);
+        if (entries != null) {
+            for (final Entry entry : entries) {
+                if (entry.taken.compareAndSet(false, true)) {
+                    queues.get(entry.ticket.getStation()).remove(entry);
+                }
+            }
+        }
+        if (rebuilding) {
+            closedWhileRebuilding.add(orderId);
+        }
+    }
+
+    private List<KitchenTicket> split(final OrderSummary order) {
+        final Map<String, Map<UUID, KitchenWorkloadItem>> itemsByStation = new LinkedHashMap<>();
+        for (final OrderLineItemSummary orderLineItem : order.getOrderLineItems()) {
+            for (final StationItem stationItem : menuCompositions.get(orderLineItem.getMenuId())) {
+                final long quantity = orderLineItem.getQuantity() * stationItem.item.getQuantity();
+                itemsByStation.computeIfAbsent(stationItem.station, key -> new LinkedHashMap<>())
+                    .merge(
+                        stationItem.item.getId(),
+                        new KitchenWorkloadItem(stationItem.item.getId(), stationItem.item.getName(), quantity),
+                        (item, other) -> new KitchenWorkloadItem(item.getId(), item.getName(), item.getQuantity() + other.getQuantity())
+                    );
+            }
+        }
+        final LocalDateTime promisedAt = order.getOrderDateTime().plus(promises.get(order.getType()));
+        final List<KitchenTicket> tickets = new ArrayList<>();
+        for (final Map.Entry<String, Map<UUID, KitchenWorkloadItem>> station : itemsByStation.entrySet()) {
+            final List<KitchenWorkloadItem> items = new ArrayList<>(station.getValue().values());
+            final long units = items.stream().mapToLong(KitchenWorkloadItem::getQuantity).sum();
+            tickets.add(new KitchenTicket(
+                UUID.randomUUID(),
+                order.getId(),
+                order.getType(),
+                station.getKey(),
+                promisedAt,
+                promisedAt.minus(prepTimePerItem.multipliedBy(units)),
+                items
+            ));
+        }
+        return tickets;
+    }
+
+    private static class StationItem {
+        private final String station;
+        private final KitchenWorkloadItem item;
+
+        private StationItem(final String station, final KitchenWorkloadItem item) {
+            this.station = station;
+            this.item = item;
+        }
+    }
+
+    private static class Entry {
+        private final KitchenTicket ticket;
+        private final long sequence;
+        private final AtomicBoolean taken = new AtomicBoolean();
+
+        private Entry(final KitchenTicket ticket, final long sequence) {
+            this.ticket = ticket;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package kitchenpos.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import kitchenpos.domain.KitchenWorkload;
+import kitchenpos.domain.KitchenWorkloadItem;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderLineItemSummary;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class KitchenWorkloadService {
+    private static final Set<OrderStatus> PENDING_STATUSES = EnumSet.of(OrderStatus.WAITING, OrderStatus.ACCEPTED);
+
+    private final OrderRepository orderRepository;
+    private final MenuRepository menuRepository;
+    private final Map<UUID, List<KitchenWorkloadItem>> menuCompositions = new ConcurrentHashMap<>();
+    private final Map<UUID, List<OrderLineItemSummary>> pendingOrders = new HashMap<>();
+    private final Map<UUID, Count> menuCounts = new LinkedHashMap<>();
+    private final Map<UUID, Count> productCounts = new LinkedHashMap<>();
+    private final Set<UUID> closedWhileRebuilding = new HashSet<>();
+    private boolean rebuilding;
+    private volatile KitchenWorkload workload = KitchenWorkload.EMPTY;
+
+    public KitchenWorkloadService(final OrderRepository orderRepository, final MenuRepository menuRepository) {
+        this.orderRepository = orderRepository;
+        this.menuRepository = menuRepository;
+    }
+
+    public KitchenWorkload getWorkload() {
+        return workload;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+            closedWhileRebuilding.clear();
+        }
+        final List<OrderSummary> orders = orderRepository.findAllSummariesByStatusIn(PENDING_STATUSES);
+        loadCompositions(orders);
+        synchronized (this) {
+            for (final OrderSummary order : orders) {
+                if (!closedWhileRebuilding.contains(order.getId())) {
+                    open(order);
+                }
+            }
+            rebuilding = false;
+            closedWhileRebuilding.clear();
+            publish();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(final OrderCreatedEvent event) {
+        apply(event.getOrder());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        final OrderSummary order = event.getOrder();
+        if (PENDING_STATUSES.contains(order.getStatus())) {
+            return;
+        }
+        synchronized (this) {
+            close(order.getId());
+            publish();
+        }
+    }
+
+    private void apply(final OrderSummary order) {
+        loadCompositions(Collections.singletonList(order));
+        synchronized (this) {
+            if (PENDING_STATUSES.contains(order.getStatus())) {
+                open(order);
+            } else {
+                close(order.getId());
+            }
+            publish();
+        }
+    }
+
+    private void loadCompositions(final List<OrderSummary> orders) {
+        for (final OrderSummary order : orders) {
+            for (final OrderLineItemSummary orderLineItem : order.getOrderLineItems()) {
+                menuCompositions.computeIfAbsent(orderLineItem.getMenuId(), this::findComposition);
+            }
+        }
+    }
+
+    private List<KitchenWorkloadItem> findComposition(final UUID menuId) {
+        return menuRepository.findWithMenuProductsById(menuId)
+            .map(menu -> menu.getMenuProducts()
+                .stream()
+                .map(this::toItem)
+                .collect(Collectors.toList()))
+            .orElse(Collections.emptyList());
+    }
+
+    private KitchenWorkloadItem toItem(final MenuProduct menuProduct) {
+        return new KitchenWorkloadItem(
+            menuProduct.getProduct().getId(),
+            menuProduct.getProduct().getName(),
+            menuProduct.getQuantity()
+        );
+    }
+
+    private void open(final OrderSummary order) {
+        if (pendingOrders.putIfAbsent(order.getId(), order.getOrderLineItems()) == null) {
+            add(order.getOrderLineItems(), 1L);
+        }
+    }
+
+    private void close(final UUID orderId) {
+        final List<OrderLineItemSummary> orderLineItems = pendingOrders.remove(orderId);
+        if (orderLineItems != null) {
+            add(orderLineItems, -1L);
+        }
+        if (rebuilding) {
+            closedWhileRebuilding.add(orderId);
+        }
+    }
+
+    private void add(final List<OrderLineItemSummary> orderLineItems, final long sign) {
+        for (final OrderLineItemSummary orderLineItem : orderLineItems) {
+            final long quantity = sign * orderLineItem.getQuantity();
+            count(menuCounts, orderLineItem.getMenuId(), orderLineItem.getMenuName(), quantity);
+            for (final KitchenWorkloadItem product : menuCompositions.get(orderLineItem.getMenuId())) {
+                count(productCounts, product.getId(), product.getName(), quantity * product.getQuantity());
+            }
+        }
+    }
+
+    private void count(final Map<UUID, Count> counts, final UUID id, final String name, final long quantity) {
+        final Count count = counts.computeIfAbsent(id, key -> new Count(name));
+        count.quantity += quantity;
+        if (count.quantity == 0L) {
+            counts.remove(id);
+        }
+    }
+
+    private void publish() {
+        workload = new KitchenWorkload(toItems(menuCounts), toItems(productCounts));
+    }
+
+    private List<KitchenWorkloadItem> toItems(final Map<UUID, Count> counts) {
+        final List<KitchenWorkloadItem> items = new ArrayList<>(counts.size());
+        for (final Map.Entry<UUID, Count> count : counts.entrySet()) {
+            items.add(new KitchenWorkloadItem(count.getKey(), count.getValue().name, count.getValue().quantity));
+        }
+        return items;
+    }
+
+    private static class Count {
+        private final String name;
+        private long quantity;
+
+        private Count(final String name) {
+            this.name = name;
+        }
+    }
+}
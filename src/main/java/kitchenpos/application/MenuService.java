@@ -5,7 +5,6 @@ import kitchenpos.infra.PurgomalumClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,8 +29,8 @@ public class MenuService {
 
     @Transactional
     public Menu create(final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPriceMoney();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
@@ -49,7 +48,7 @@ public class MenuService {
             throw new IllegalArgumentException();
         }
         final List<MenuProduct> menuProducts = new ArrayList<>();
-        BigDecimal sum = BigDecimal.ZERO;
+        Money sum = Money.ZERO;
         for (final MenuProduct menuProductRequest : menuProductRequests) {
             final long quantity = menuProductRequest.getQuantity();
             if (quantity < 0) {
@@ -57,14 +56,14 @@ public class MenuService {
             }
             final Product product = productRepository.findById(menuProductRequest.getProductId())
                 .orElseThrow(NoSuchElementException::new);
-            sum = product.getPrice()
-                .multiply(BigDecimal.valueOf(quantity));
+            sum = product.getPriceMoney()
+                .times(quantity);
             final MenuProduct menuProduct = new MenuProduct();
             menuProduct.setProduct(product);
             menuProduct.setQuantity(quantity);
             menuProducts.add(menuProduct);
         }
-        if (price.compareTo(sum) > 0) {
+        if (price.isGreaterThan(sum)) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
@@ -74,7 +73,7 @@ public class MenuService {
         final Menu menu = new Menu();
         menu.setId(UUID.randomUUID());
         menu.setName(name);
-        menu.setPrice(price);
+        menu.setPrice(price.toBigDecimal());
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
         menu.setMenuProducts(menuProducts);
@@ -83,33 +82,33 @@ public class MenuService {
 
     @Transactional
     public Menu changePrice(final UUID menuId, final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPriceMoney();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
-        final Menu menu = menuRepository.findById(menuId)
+        final Menu menu = menuRepository.findWithMenuProductsById(menuId)
             .orElseThrow(NoSuchElementException::new);
         for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            final BigDecimal sum = menuProduct.getProduct()
-                .getPrice()
-                .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            if (price.compareTo(sum) > 0) {
+            final Money sum = menuProduct.getProduct()
+                .getPriceMoney()
+                .times(menuProduct.getQuantity());
+            if (price.isGreaterThan(sum)) {
                 throw new IllegalArgumentException();
             }
         }
-        menu.setPrice(price);
+        menu.setPrice(price.toBigDecimal());
         return menu;
     }
 
     @Transactional
     public Menu display(final UUID menuId) {
-        final Menu menu = menuRepository.findById(menuId)
+        final Menu menu = menuRepository.findWithMenuProductsById(menuId)
             .orElseThrow(NoSuchElementException::new);
         for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            final BigDecimal sum = menuProduct.getProduct()
-                .getPrice()
-                .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            if (menu.getPrice().compareTo(sum) > 0) {
+            final Money sum = menuProduct.getProduct()
+                .getPriceMoney()
+                .times(menuProduct.getQuantity());
+            if (menu.getPriceMoney().isGreaterThan(sum)) {
                 throw new IllegalStateException();
             }
         }
@@ -129,4 +128,9 @@ public class MenuService {
     public List<Menu> findAll() {
         return menuRepository.findAll();
     }
+
+    @Transactional(readOnly = true)
+    public List<MenuSummary> findAllSummaries() {
+        return menuRepository.findAllSummaries();
+    }
 }
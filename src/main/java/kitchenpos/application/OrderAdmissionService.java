@@ -0,0 +1,207 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import kitchenpos.domain.OrderAdmissionState;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class OrderAdmissionService {
+    private static final Set<OrderStatus> ACTIVE_STATUSES = EnumSet.of(OrderStatus.WAITING, OrderStatus.ACCEPTED);
+
+    private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<OrderType, Lane> lanes = new EnumMap<>(OrderType.class);
+    private final long queueTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final Set<UUID> changedWhileRebuilding = new HashSet<>();
+    private boolean rebuilding;
+
+    public OrderAdmissionService(
+        final OrderRepository orderRepository,
+        final MeterRegistry meterRegistry,
+        @Value("#{${kitchenpos.admission.max-in-flight}}") final Map<String, Integer> maxInFlight,
+        @Value("#{${kitchenpos.admission.max-backlog}}") final Map<String, Integer> maxBacklog,
+        @Value("${kitchenpos.admission.queue-timeout}") final long queueTimeoutMillis,
+        @Value("${kitchenpos.admission.retry-after}") final long retryAfterSeconds
+    ) {
+        if (queueTimeoutMillis < 0L || retryAfterSeconds <= 0L) {
+            throw new IllegalArgumentException();
+        }
+        this.orderRepository = orderRepository;
+        this.meterRegistry = meterRegistry;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        validateKeys(maxInFlight.keySet());
+        validateKeys(maxBacklog.keySet());
+        for (final OrderType type : OrderType.values()) {
+            lanes.put(type, new Lane(maxInFlight.get(type.name()), maxBacklog.get(type.name())));
+        }
+        for (final Map.Entry<OrderType, Lane> lane : lanes.entrySet()) {
+            final Tags tags = Tags.of("type", lane.getKey().name());
+            meterRegistry.gauge("kitchenpos.orders.admission.in-flight", tags, lane.getValue().inFlight);
+            meterRegistry.gauge("kitchenpos.orders.admission.backlog", tags, lane.getValue().activeOrders, Set::size);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+            changedWhileRebuilding.clear();
+        }
+        final List<OrderSummary> orders = orderRepository.findAllSummariesByStatusIn(ACTIVE_STATUSES);
+        synchronized (this) {
+            for (final OrderSummary order : orders) {
+                if (!changedWhileRebuilding.contains(order.getId())) {
+                    track(order);
+                }
+            }
+            rebuilding = false;
+            changedWhileRebuilding.clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(final OrderCreatedEvent event) {
+        enter(event.getOrder());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        enter(event.getOrder());
+    }
+
+    public Admission admit(final OrderType type) {
+        if (Objects.isNull(type)) {
+            return new Admission(null);
+        }
+        final Lane lane = lanes.get(type);
+        if (lane.maxBacklog != null && lane.activeOrders.size() >= lane.maxBacklog) {
+            throw reject(type, lane, "backlog");
+        }
+        if (lane.permits != null) {
+            try {
+                if (!lane.permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw reject(type, lane, "in_flight");
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject(type, lane, "interrupted");
+            }
+        }
+        lane.inFlight.incrementAndGet();
+        return new Admission(lane);
+    }
+
+    public List<OrderAdmissionState> findAllStates() {
+        final List<OrderAdmissionState> states = new ArrayList<>();
+        for (final Map.Entry<OrderType, Lane> entry : lanes.entrySet()) {
+            final Lane lane = entry.getValue();
+            states.add(new OrderAdmissionState(
+                entry.getKey(),
+                lane.inFlight.get(),
+                lane.maxInFlight,
+                lane.activeOrders.size(),
+                lane.maxBacklog,
+                lane.rejected.get()
+            ));
+        }
+        return states;
+    }
+
+    synchronized void enter(final OrderSummary order) {
+        if (rebuilding) {
+            changedWhileRebuilding.add(order.getId());
+        }
+        track(order);
+    }
+
+    private void track(final OrderSummary order) {
+        final Set<UUID> activeOrders = lanes.get(order.getType()).activeOrders;
+        if (ACTIVE_STATUSES.contains(order.getStatus())) {
+            activeOrders.add(order.getId());
+            return;
+        }
+        activeOrders.remove(order.getId());
+    }
+
+    private OrderRejectedException reject(final OrderType type, final Lane lane, final String reason) {
+        lane.rejected.incrementAndGet();
+        meterRegistry.counter("kitchenpos.orders.admission.rejections", "type", type.name(), "reason", reason).increment();
+        return new OrderRejectedException(retryAfterSeconds);
+    }
+
+    private static void validateKeys(final Set<String> keys) {
+        for (final String key : keys) {
+            if (Arrays.stream(OrderType.values()).noneMatch(type -> type.name().equals(key))) {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    public static class Admission implements AutoCloseable {
+        private final Lane lane;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Admission(final Lane lane) {
+            this.lane = lane;
+        }
+
+        @Override
+        public void close() {
+            if (lane == null || !closed.compareAndSet(false, true)) {
+                return;
+            }
+            lane.inFlight.decrementAndGet();
+            if (lane.permits != null) {
+                lane.permits.release();
+            }
+        }
+    }
+
+    private static class Lane {
+        private final Integer maxInFlight;
+        private final Integer maxBacklog;
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong rejected = new AtomicLong();
+        private final Set<UUID> activeOrders = ConcurrentHashMap.newKeySet();
+
+        private Lane(final Integer maxInFlight, final Integer maxBacklog) {
+            if ((maxInFlight != null && maxInFlight <= 0) || (maxBacklog != null && maxBacklog <= 0)) {
+                throw new IllegalArgumentException();
+            }
+            this.maxInFlight = maxInFlight;
+            this.maxBacklog = maxBacklog;
+            this.permits = maxInFlight == null ? null : new Semaphore(maxInFlight);
+        }
+    }
+}
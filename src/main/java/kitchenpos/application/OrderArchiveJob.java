@@ -0,0 +1,39 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderArchiveJob {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveJob.class);
+
+    private final OrderArchiveService orderArchiveService;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public OrderArchiveJob(
+        final OrderArchiveService orderArchiveService,
+        @Value("${kitchenpos.order-archive.retention-days}") final int retentionDays,
+        @Value("${kitchenpos.order-archive.batch-size}") final int batchSize
+    ) {
+        this.orderArchiveService = orderArchiveService;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${kitchenpos.order-archive.cron}")
+    public void run() {
+        final LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int archived;
+        do {
+            archived = orderArchiveService.archive(before, batchSize);
+            total += archived;
+        } while (archived == batchSize);
+        log.info("Archived {} completed orders placed before {}", total, before);
+    }
+}
@@ -0,0 +1,27 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import kitchenpos.domain.OrderArchiveRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OrderArchiveService {
+    private final OrderArchiveRepository orderArchiveRepository;
+
+    public OrderArchiveService(final OrderArchiveRepository orderArchiveRepository) {
+        this.orderArchiveRepository = orderArchiveRepository;
+    }
+
+    @Transactional
+    public int archive(final LocalDateTime before, final int batchSize) {
+        if (Objects.isNull(before) || batchSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final List<UUID> orderIds = orderArchiveRepository.findCompletedOrderIdsBefore(before, batchSize);
+        return orderArchiveRepository.archive(orderIds, LocalDateTime.now());
+    }
+}
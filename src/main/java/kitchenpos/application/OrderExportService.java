@@ -0,0 +1,88 @@
+package kitchenpos.application;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.OrderHistoryRepository;
+import kitchenpos.domain.OrderHistoryRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OrderExportService {
+    private static final String CSV_HEADER =
+        "order_id,type,status,order_date_time,delivery_address,order_table_id,menu_id,menu_name,price,quantity";
+
+    private final OrderHistoryRepository orderHistoryRepository;
+
+    public OrderExportService(final OrderHistoryRepository orderHistoryRepository) {
+        this.orderHistoryRepository = orderHistoryRepository;
+    }
+
+    public void validateRange(final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCsv(final LocalDateTime from, final LocalDateTime to, final OutputStream outputStream) {
+        validateRange(from, to);
+        try {
+            final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(gzipOutputStream, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            orderHistoryRepository.forEachByOrderDateTimeBetween(from, to, row -> writeRow(writer, row));
+            writer.flush();
+            gzipOutputStream.finish();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRow(final Writer writer, final OrderHistoryRow row) {
+        try {
+            writer.write(String.valueOf(row.getOrderId()));
+            writer.write(',');
+            writer.write(row.getType().name());
+            writer.write(',');
+            writer.write(row.getStatus().name());
+            writer.write(',');
+            writer.write(row.getOrderDateTime().toString());
+            writer.write(',');
+            writer.write(escape(row.getDeliveryAddress()));
+            writer.write(',');
+            writer.write(Objects.toString(row.getOrderTableId(), ""));
+            writer.write(',');
+            writer.write(String.valueOf(row.getMenuId()));
+            writer.write(',');
+            writer.write(escape(row.getMenuName()));
+            writer.write(',');
+            writer.write(Money.ofMinor(row.getPriceAmount()).toBigDecimal().toPlainString());
+            writer.write(',');
+            writer.write(Long.toString(row.getQuantity()));
+            writer.write('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String escape(final String value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,126 @@
+package kitchenpos.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import kitchenpos.domain.IdempotencyKey;
+import kitchenpos.domain.IdempotencyKeyRepository;
+import kitchenpos.domain.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Service
+public class OrderIdempotencyService {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final OrderService orderService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionOperations transactionOperations;
+    private final Duration ttl;
+    private final Map<String, IdempotencyKey> cache;
+
+    public OrderIdempotencyService(
+        final OrderService orderService,
+        final IdempotencyKeyRepository idempotencyKeyRepository,
+        final TransactionOperations transactionOperations,
+        @Value("${kitchenpos.idempotency.ttl}") final long ttlMillis,
+        @Value("${kitchenpos.idempotency.cache-size}") final int cacheSize
+    ) {
+        if (ttlMillis <= 0L || cacheSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.orderService = orderService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionOperations = transactionOperations;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.cache = new LinkedHashMap<String, IdempotencyKey>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, IdempotencyKey> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public UUID create(final String key, final Order request) {
+        return create(key, request, LocalDateTime.now());
+    }
+
+    public Optional<UUID> findOrderId(final String key) {
+        return findOrderId(key, LocalDateTime.now());
+    }
+
+    public int purge() {
+        return purge(LocalDateTime.now());
+    }
+
+    Optional<UUID> findOrderId(final String key, final LocalDateTime now) {
+        validate(key);
+        final LocalDateTime expiredBefore = now.minus(ttl);
+        final Optional<IdempotencyKey> cached = findCached(key, expiredBefore);
+        if (cached.isPresent()) {
+            return cached.map(IdempotencyKey::getOrderId);
+        }
+        return idempotencyKeyRepository.findByKey(key)
+            .filter(idempotencyKey -> !idempotencyKey.getCreatedAt().isBefore(expiredBefore))
+            .map(this::remember);
+    }
+
+    UUID create(final String key, final Order request, final LocalDateTime now) {
+        validate(key);
+        final LocalDateTime expiredBefore = now.minus(ttl);
+        final Optional<IdempotencyKey> cached = findCached(key, expiredBefore);
+        if (cached.isPresent()) {
+            return cached.get().getOrderId();
+        }
+        final Optional<IdempotencyKey> stored = idempotencyKeyRepository.findByKey(key);
+        if (stored.isPresent() && !stored.get().getCreatedAt().isBefore(expiredBefore)) {
+            return remember(stored.get());
+        }
+        try {
+            return remember(transactionOperations.execute(status -> {
+                if (stored.isPresent()) {
+                    idempotencyKeyRepository.deleteByKeyAndCreatedAtBefore(key, expiredBefore);
+                }
+                final Order order = orderService.create(request);
+                return idempotencyKeyRepository.save(new IdempotencyKey(key, order.getId(), now));
+            }));
+        } catch (final DuplicateKeyException e) {
+            return remember(idempotencyKeyRepository.findByKey(key).orElseThrow(() -> e));
+        }
+    }
+
+    synchronized int purge(final LocalDateTime now) {
+        final LocalDateTime expiredBefore = now.minus(ttl);
+        cache.values().removeIf(idempotencyKey -> idempotencyKey.getCreatedAt().isBefore(expiredBefore));
+        return idempotencyKeyRepository.deleteAllByCreatedAtBefore(expiredBefore);
+    }
+
+    private static void validate(final String key) {
+        if (Objects.isNull(key) || key.trim().isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private synchronized Optional<IdempotencyKey> findCached(final String key, final LocalDateTime expiredBefore) {
+        final IdempotencyKey idempotencyKey = cache.get(key);
+        if (Objects.isNull(idempotencyKey)) {
+            return Optional.empty();
+        }
+        if (idempotencyKey.getCreatedAt().isBefore(expiredBefore)) {
+            cache.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(idempotencyKey);
+    }
+
+    private synchronized UUID remember(final IdempotencyKey idempotencyKey) {
+        cache.put(idempotencyKey.getKey(), idempotencyKey);
+        return idempotencyKey.getOrderId();
+    }
+}
@@ -0,0 +1,250 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderBatchRepository;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Service
+public class OrderIngestionService {
+    private static final Logger log = LoggerFactory.getLogger(OrderIngestionService.class);
+    private static final long POLL_MILLIS = 100L;
+
+    public enum Mode {
+        SYNC, WRITE_BEHIND
+    }
+
+    public enum Ack {
+        ENQUEUE, FLUSH
+    }
+
+    private final OrderService orderService;
+    private final OrderBatchRepository orderBatchRepository;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Mode mode;
+    private final Ack ack;
+    private final int batchSize;
+    private final long enqueueTimeoutMillis;
+    private final long flushTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final BlockingQueue<Entry> buffer;
+    private final Counter rejections;
+    private final DistributionSummary batches;
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderIngestionService(
+        final OrderService orderService,
+        final OrderBatchRepository orderBatchRepository,
+        final TransactionOperations transactionOperations,
+        final ApplicationEventPublisher eventPublisher,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.order-ingestion.mode}") final String mode,
+        @Value("${kitchenpos.order-ingestion.ack}") final String ack,
+        @Value("${kitchenpos.order-ingestion.capacity}") final int capacity,
+        @Value("${kitchenpos.order-ingestion.batch-size}") final int batchSize,
+        @Value("${kitchenpos.order-ingestion.enqueue-timeout}") final long enqueueTimeoutMillis,
+        @Value("${kitchenpos.order-ingestion.flush-timeout}") final long flushTimeoutMillis,
+        @Value("${kitchenpos.order-ingestion.retry-after}") final long retryAfterSeconds
+    ) {
+        if (capacity <= 0 || batchSize <= 0 || enqueueTimeoutMillis < 0L || flushTimeoutMillis <= 0L || retryAfterSeconds <= 0L) {
+            throw new IllegalArgumentException();
+        }
+        this.orderService = orderService;
+        this.orderBatchRepository = orderBatchRepository;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.mode = parse(Mode.class, mode);
+        this.ack = parse(Ack.class, ack);
+        this.batchSize = batchSize;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.flushTimeoutMillis = flushTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.rejections = meterRegistry.counter("kitchenpos.orders.ingestion.rejections");
+        this.batches = meterRegistry.summary("kitchenpos.orders.ingestion.batch.size");
+        meterRegistry.gauge("kitchenpos.orders.ingestion.backlog", buffer, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (mode != Mode.WRITE_BEHIND || running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "order-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        lifecycle.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        writer.join();
+        final List<Entry> rest = new ArrayList<>();
+        buffer.drainTo(rest);
+        if (!rest.isEmpty()) {
+            write(rest);
+        }
+    }
+
+    public Order create(final Order request) {
+        if (mode == Mode.SYNC) {
+            return orderService.create(request);
+        }
+        if (!running) {
+            throw new IllegalStateException();
+        }
+        final Entry entry = new Entry(orderService.prepare(request));
+        enqueue(entry);
+        if (ack == Ack.ENQUEUE) {
+            return entry.order;
+        }
+        try {
+            return entry.persisted.get(flushTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (final TimeoutException e) {
+            throw abandon(entry, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw abandon(entry, e);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getBacklog() {
+        return buffer.size();
+    }
+
+    private void enqueue(final Entry entry) {
+        lifecycle.readLock().lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException();
+            }
+            if (!buffer.offer(entry, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejections.increment();
+                throw new OrderRejectedException(retryAfterSeconds);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderRejectedException(retryAfterSeconds, e);
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    private RuntimeException abandon(final Entry entry, final Exception cause) {
+        if (buffer.remove(entry)) {
+            rejections.increment();
+            return new OrderRejectedException(retryAfterSeconds, cause);
+        }
+        return new OrderPendingException(entry.order.getId(), cause);
+    }
+
+    private void drain() {
+        final List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                final Entry first = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(final List<Entry> batch) {
+        batches.record(batch.size());
+        try {
+            persist(batch);
+        } catch (final RuntimeException e) {
+            log.warn("Failed to write a batch of {} orders, retrying one by one", batch.size(), e);
+            for (final Entry entry : batch) {
+                try {
+                    persist(Collections.singletonList(entry));
+                } catch (final RuntimeException failure) {
+                    log.error("Failed to write order {}", entry.order.getId(), failure);
+                    entry.persisted.completeExceptionally(failure);
+                }
+            }
+        }
+    }
+
+    private void persist(final List<Entry> entries) {
+        final List<Order> orders = entries.stream()
+            .map(entry -> entry.order)
+            .collect(Collectors.toList());
+        transactionOperations.executeWithoutResult(status -> {
+            orderBatchRepository.saveAll(orders);
+            for (final Order order : orders) {
+                eventPublisher.publishEvent(new OrderCreatedEvent(OrderSummary.from(order)));
+            }
+        });
+        for (final Entry entry : entries) {
+            entry.persisted.complete(entry.order);
+        }
+    }
+
+    private static <E extends Enum<E>> E parse(final Class<E> type, final String value) {
+        return Enum.valueOf(type, value.replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    private static class Entry {
+        private final Order order;
+        private final CompletableFuture<Order> persisted = new CompletableFuture<>();
+
+        private Entry(final Order order) {
+            this.order = order;
+        }
+    }
+}
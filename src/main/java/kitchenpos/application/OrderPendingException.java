@@ -0,0 +1,18 @@
+package kitchenpos.application;
+
+import java.util.UUID;
+
+public class OrderPendingException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final UUID orderId;
+
+    public OrderPendingException(final UUID orderId, final Throwable cause) {
+        super(cause);
+        this.orderId = orderId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.application;
+
+import java.util.concurrent.RejectedExecutionException;
+
+public class OrderRejectedException extends RejectedExecutionException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public OrderRejectedException(final long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public OrderRejectedException(final long retryAfterSeconds, final Throwable cause) {
+        super(cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,8 +1,8 @@
 package kitchenpos.application;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -10,14 +10,19 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreatedEvent;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStateMachine;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
 import kitchenpos.domain.OrderType;
-import kitchenpos.infra.KitchenridersClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,22 +31,29 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
         final OrderRepository orderRepository,
         final MenuRepository menuRepository,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.orderRepository = orderRepository;
         this.menuRepository = menuRepository;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Order create(final Order request) {
+        final Order savedOrder = orderRepository.save(prepare(request));
+        eventPublisher.publishEvent(new OrderCreatedEvent(OrderSummary.from(savedOrder)));
+        return savedOrder;
+    }
+
+    @Transactional(readOnly = true)
+    public Order prepare(final Order request) {
         final OrderType type = request.getType();
         if (Objects.isNull(type)) {
             throw new IllegalArgumentException();
@@ -59,6 +71,7 @@ public class OrderService {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        Money totalAmount = Money.ZERO;
         for (final OrderLineItem orderLineItemRequest : orderLineItemRequests) {
             final long quantity = orderLineItemRequest.getQuantity();
             if (type != OrderType.EAT_IN) {
@@ -71,13 +84,17 @@ public class OrderService {
             if (!menu.isDisplayed()) {
                 throw new IllegalArgumentException();
             }
-            if (menu.getPrice().compareTo(orderLineItemRequest.getPrice()) != 0) {
+            final Money price = menu.getPriceMoney();
+            if (!price.equals(Money.of(orderLineItemRequest.getPrice()))) {
                 throw new IllegalArgumentException();
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
             orderLineItem.setMenu(menu);
+            orderLineItem.setMenuName(menu.getName());
             orderLineItem.setQuantity(quantity);
+            orderLineItem.setPriceAmount(price.getAmount());
             orderLineItems.add(orderLineItem);
+            totalAmount = totalAmount.plus(price.times(quantity));
         }
         Order order = new Order();
         order.setId(UUID.randomUUID());
@@ -85,6 +102,7 @@ public class OrderService {
         order.setStatus(OrderStatus.WAITING);
         order.setOrderDateTime(LocalDateTime.now());
         order.setOrderLineItems(orderLineItems);
+        order.setTotalAmount(totalAmount.getAmount());
         if (type == OrderType.DELIVERY) {
             final String deliveryAddress = request.getDeliveryAddress();
             if (Objects.isNull(deliveryAddress) || deliveryAddress.isEmpty()) {
@@ -100,86 +118,33 @@ public class OrderService {
             }
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        return order;
     }
 
     @Transactional
     public Order accept(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.WAITING) {
-            throw new IllegalStateException();
-        }
-        if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
-            }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
-        }
-        order.setStatus(OrderStatus.ACCEPTED);
-        return order;
+        return transit(orderId, OrderStatus.ACCEPTED);
     }
 
     @Transactional
     public Order serve(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.SERVED);
-        return order;
+        return transit(orderId, OrderStatus.SERVED);
     }
 
     @Transactional
     public Order startDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
-        return order;
+        return transit(orderId, OrderStatus.DELIVERING);
     }
 
     @Transactional
     public Order completeDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
-        return order;
+        return transit(orderId, OrderStatus.DELIVERED);
     }
 
     @Transactional
     public Order complete(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        final OrderType type = order.getType();
-        final OrderStatus status = order.getStatus();
-        if (type == OrderType.DELIVERY) {
-            if (status != OrderStatus.DELIVERED) {
-                throw new IllegalStateException();
-            }
-        }
-        if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
-            if (status != OrderStatus.SERVED) {
-                throw new IllegalStateException();
-            }
-        }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
+        final Order order = transit(orderId, OrderStatus.COMPLETED);
+        if (order.getType() == OrderType.EAT_IN) {
             final OrderTable orderTable = order.getOrderTable();
             if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
                 orderTable.setNumberOfGuests(0);
@@ -193,4 +158,35 @@ public class OrderService {
     public List<Order> findAll() {
         return orderRepository.findAll();
     }
+
+    @Transactional(readOnly = true)
+    public List<OrderSummary> findAllSummaries() {
+        return orderRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderSummary> findAllSummaries(final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        return orderRepository.findAllSummariesByOrderDateTimeBetween(from, to);
+    }
+
+    private Order transit(final UUID orderId, final OrderStatus status) {
+        final OrderStatus previousStatus = changeStatus(orderId, status);
+        final Order order = orderRepository.findById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(OrderSummary.withoutOrderLineItems(order), previousStatus));
+        return order;
+    }
+
+    private OrderStatus changeStatus(final UUID orderId, final OrderStatus status) {
+        final OrderType type = orderRepository.findTypeById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+        final OrderStatus source = OrderStateMachine.sourceOf(type, status);
+        if (Objects.isNull(source) || orderRepository.updateStatus(orderId, EnumSet.of(type), source, status) == 0) {
+            throw new IllegalStateException();
+        }
+        return source;
+    }
 }
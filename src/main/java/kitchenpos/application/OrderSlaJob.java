@@ -0,0 +1,18 @@
+package kitchenpos.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderSlaJob {
+    private final OrderSlaService orderSlaService;
+
+    public OrderSlaJob(final OrderSlaService orderSlaService) {
+        this.orderSlaService = orderSlaService;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order-sla.tick}")
+    public void run() {
+        orderSlaService.expire();
+    }
+}
@@ -0,0 +1,149 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderSlaBreach;
+import kitchenpos.domain.OrderSlaBreachedEvent;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.TimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class OrderSlaService {
+    private static final Logger log = LoggerFactory.getLogger(OrderSlaService.class);
+    private static final int WHEEL_LEVELS = 4;
+
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Map<OrderStatus, Duration> limits = new EnumMap<>(OrderStatus.class);
+    private final TimingWheel<UUID> wheel;
+    private final Map<UUID, OrderStatus> watchedStatuses = new HashMap<>();
+    private final Map<UUID, OrderSlaBreach> breaches = new LinkedHashMap<>();
+    private final Set<UUID> changedWhileRebuilding = new HashSet<>();
+    private boolean rebuilding;
+
+    public OrderSlaService(
+        final OrderRepository orderRepository,
+        final ApplicationEventPublisher eventPublisher,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.order-sla.waiting-minutes}") final long waitingMinutes,
+        @Value("${kitchenpos.order-sla.accepted-minutes}") final long acceptedMinutes,
+        @Value("${kitchenpos.order-sla.tick}") final long tickMillis
+    ) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.limits.put(OrderStatus.WAITING, Duration.ofMinutes(waitingMinutes));
+        this.limits.put(OrderStatus.ACCEPTED, Duration.ofMinutes(acceptedMinutes));
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_LEVELS, toMillis(LocalDateTime.now()));
+        meterRegistry.gauge("kitchenpos.orders.sla.watched", this, OrderSlaService::countWatched);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+            changedWhileRebuilding.clear();
+        }
+        final List<OrderSummary> orders = orderRepository.findAllSummariesByStatusIn(limits.keySet());
+        synchronized (this) {
+            for (final OrderSummary order : orders) {
+                if (!changedWhileRebuilding.contains(order.getId())) {
+                    watch(order, order.getOrderDateTime());
+                }
+            }
+            rebuilding = false;
+            changedWhileRebuilding.clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(final OrderCreatedEvent event) {
+        enter(event.getOrder(), event.getOrder().getOrderDateTime());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        enter(event.getOrder(), LocalDateTime.now());
+    }
+
+    public void expire() {
+        expire(LocalDateTime.now());
+    }
+
+    public synchronized List<OrderSlaBreach> findAllBreaches() {
+        return new ArrayList<>(breaches.values());
+    }
+
+    synchronized void enter(final OrderSummary order, final LocalDateTime enteredAt) {
+        if (rebuilding) {
+            changedWhileRebuilding.add(order.getId());
+        }
+        watch(order, enteredAt);
+    }
+
+    void expire(final LocalDateTime now) {
+        final List<OrderSlaBreach> expired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(toMillis(now), (orderId, deadline) -> {
+                final OrderSlaBreach breach = new OrderSlaBreach(orderId, watchedStatuses.remove(orderId), toDateTime(deadline));
+                breaches.put(orderId, breach);
+                expired.add(breach);
+            });
+        }
+        for (final OrderSlaBreach breach : expired) {
+            log.warn("Order {} missed its {} deadline at {}", breach.getOrderId(), breach.getStatus(), breach.getDeadline());
+            meterRegistry.counter("kitchenpos.orders.sla.breaches", "status", breach.getStatus().name()).increment();
+            eventPublisher.publishEvent(new OrderSlaBreachedEvent(breach));
+        }
+    }
+
+    private void watch(final OrderSummary order, final LocalDateTime enteredAt) {
+        breaches.remove(order.getId());
+        final Duration limit = limits.get(order.getStatus());
+        if (limit == null) {
+            wheel.cancel(order.getId());
+            watchedStatuses.remove(order.getId());
+            return;
+        }
+        wheel.schedule(order.getId(), toMillis(enteredAt.plus(limit)));
+        watchedStatuses.put(order.getId(), order.getStatus());
+    }
+
+    private synchronized int countWatched() {
+        return wheel.size();
+    }
+
+    private static long toMillis(final LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(final long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -3,6 +3,7 @@ package kitchenpos.application;
 import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableBill;
 import kitchenpos.domain.OrderTableRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -71,6 +72,17 @@ public class OrderTableService {
         return orderTable;
     }
 
+    @Transactional(readOnly = true)
+    public OrderTableBill bill(final UUID orderTableId) {
+        if (!orderTableRepository.existsById(orderTableId)) {
+            throw new NoSuchElementException();
+        }
+        return new OrderTableBill(
+            orderTableId,
+            orderRepository.findAllBillLinesByOrderTableIdAndStatusNot(orderTableId, OrderStatus.COMPLETED)
+        );
+    }
+
     @Transactional(readOnly = true)
     public List<OrderTable> findAll() {
         return orderTableRepository.findAll();
@@ -5,7 +5,6 @@ import kitchenpos.infra.PurgomalumClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -29,8 +28,8 @@ public class ProductService {
 
     @Transactional
     public Product create(final Product request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPriceMoney();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
@@ -40,28 +39,28 @@ public class ProductService {
         final Product product = new Product();
         product.setId(UUID.randomUUID());
         product.setName(name);
-        product.setPrice(price);
+        product.setPrice(price.toBigDecimal());
         return productRepository.save(product);
     }
 
     @Transactional
     public Product changePrice(final UUID productId, final Product request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPriceMoney();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final Product product = productRepository.findById(productId)
             .orElseThrow(NoSuchElementException::new);
-        product.setPrice(price);
+        product.setPrice(price.toBigDecimal());
         final List<Menu> menus = menuRepository.findAllByProductId(productId);
         for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
+            Money sum = Money.ZERO;
             for (final MenuProduct menuProduct : menu.getMenuProducts()) {
                 sum = menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
+                    .getPriceMoney()
+                    .times(menuProduct.getQuantity());
             }
-            if (menu.getPrice().compareTo(sum) > 0) {
+            if (menu.getPriceMoney().isGreaterThan(sum)) {
                 menu.setDisplayed(false);
             }
         }
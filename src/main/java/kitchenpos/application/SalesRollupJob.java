@@ -0,0 +1,18 @@
+package kitchenpos.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SalesRollupJob {
+    private final SalesRollupService salesRollupService;
+
+    public SalesRollupJob(final SalesRollupService salesRollupService) {
+        this.salesRollupService = salesRollupService;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.sales-rollup.flush-interval}")
+    public void run() {
+        salesRollupService.flush();
+    }
+}
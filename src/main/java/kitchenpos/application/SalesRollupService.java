@@ -0,0 +1,173 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PreDestroy;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.MenuSummary;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.OrderLineItemSummary;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.SalesDimension;
+import kitchenpos.domain.SalesRollup;
+import kitchenpos.domain.SalesRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class SalesRollupService {
+    private static final Comparator<SalesRollup> DASHBOARD_ORDER = Comparator.comparing(SalesRollup::getBucketHour)
+        .thenComparing(SalesRollup::getDimension)
+        .thenComparing(SalesRollup::getAmount, Comparator.reverseOrder());
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final MenuRepository menuRepository;
+    private final OrderRepository orderRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Key, SalesRollup> pending = new ConcurrentHashMap<>();
+    private volatile Map<UUID, UUID> menuGroupIds = Collections.emptyMap();
+
+    public SalesRollupService(
+        final SalesRollupRepository salesRollupRepository,
+        final MenuRepository menuRepository,
+        final OrderRepository orderRepository
+    ) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.menuRepository = menuRepository;
+        this.orderRepository = orderRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        final OrderSummary order = event.getOrder();
+        if (order.getStatus() != OrderStatus.COMPLETED) {
+            return;
+        }
+        final LocalDateTime bucketHour = order.getOrderDateTime().truncatedTo(ChronoUnit.HOURS);
+        final List<SalesRollup> rollups = new ArrayList<>();
+        for (final OrderLineItemSummary orderLineItem : orderRepository.findAllLineItemSummariesByOrderId(order.getId())) {
+            final long quantity = orderLineItem.getQuantity();
+            final Money amount = Money.of(orderLineItem.getPrice()).times(quantity);
+            rollups.add(new SalesRollup(bucketHour, SalesDimension.MENU, orderLineItem.getMenuId(), quantity, amount));
+            final UUID menuGroupId = findMenuGroupId(orderLineItem.getMenuId());
+            if (Objects.nonNull(menuGroupId)) {
+                rollups.add(new SalesRollup(bucketHour, SalesDimension.MENU_GROUP, menuGroupId, quantity, amount));
+            }
+        }
+        addAll(rollups);
+    }
+
+    @PreDestroy
+    public void flush() {
+        final Map<Key, SalesRollup> flushing;
+        lock.writeLock().lock();
+        try {
+            flushing = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            salesRollupRepository.addAll(flushing.values());
+        } catch (final RuntimeException e) {
+            addAll(flushing.values());
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollup> findAll(final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        final Map<Key, SalesRollup> rollups = new HashMap<>();
+        for (final SalesRollup rollup : salesRollupRepository.findAllByBucketHourBetween(from, to)) {
+            rollups.put(Key.of(rollup), rollup);
+        }
+        lock.readLock().lock();
+        try {
+            for (final SalesRollup rollup : pending.values()) {
+                if (!rollup.getBucketHour().isBefore(from) && rollup.getBucketHour().isBefore(to)) {
+                    rollups.merge(Key.of(rollup), rollup, SalesRollup::plus);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        final List<SalesRollup> result = new ArrayList<>(rollups.values());
+        result.sort(DASHBOARD_ORDER);
+        return result;
+    }
+
+    private void addAll(final Collection<SalesRollup> rollups) {
+        lock.readLock().lock();
+        try {
+            for (final SalesRollup rollup : rollups) {
+                pending.merge(Key.of(rollup), rollup, SalesRollup::plus);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private UUID findMenuGroupId(final UUID menuId) {
+        if (!menuGroupIds.containsKey(menuId)) {
+            final Map<UUID, UUID> reloaded = new HashMap<>();
+            for (final MenuSummary menu : menuRepository.findAllSummaries()) {
+                reloaded.put(menu.getId(), menu.getMenuGroupId());
+            }
+            menuGroupIds = reloaded;
+        }
+        return menuGroupIds.get(menuId);
+    }
+
+    private static final class Key {
+        private final LocalDateTime bucketHour;
+        private final SalesDimension dimension;
+        private final UUID dimensionId;
+
+        private Key(final LocalDateTime bucketHour, final SalesDimension dimension, final UUID dimensionId) {
+            this.bucketHour = bucketHour;
+            this.dimension = dimension;
+            this.dimensionId = dimensionId;
+        }
+
+        private static Key of(final SalesRollup rollup) {
+            return new Key(rollup.getBucketHour(), rollup.getDimension(), rollup.getDimensionId());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return bucketHour.equals(key.bucketHour) && dimension == key.dimension && dimensionId.equals(key.dimensionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bucketHour, dimension, dimensionId);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.application;
+
+import java.time.LocalDate;
+import kitchenpos.domain.Settlement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SettlementJob {
+    private static final Logger log = LoggerFactory.getLogger(SettlementJob.class);
+
+    private final SettlementService settlementService;
+
+    public SettlementJob(final SettlementService settlementService) {
+        this.settlementService = settlementService;
+    }
+
+    @Scheduled(cron = "${kitchenpos.settlement.cron}")
+    public void run() {
+        final Settlement settlement = settlementService.settle(LocalDate.now().minusDays(1));
+        log.info("Settled {} orders for {}", settlement.getOrderCount(), settlement.getBusinessDate());
+    }
+}
@@ -0,0 +1,108 @@
+package kitchenpos.application;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import javax.annotation.PreDestroy;
+import kitchenpos.domain.OrderHistoryRepository;
+import kitchenpos.domain.OrderHistoryRow;
+import kitchenpos.domain.Settlement;
+import kitchenpos.domain.SettlementAccumulator;
+import kitchenpos.domain.SettlementRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class SettlementService {
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final SettlementRepository settlementRepository;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public SettlementService(
+        final OrderHistoryRepository orderHistoryRepository,
+        final SettlementRepository settlementRepository,
+        @Value("${kitchenpos.settlement.parallelism}") final int parallelism,
+        @Value("${kitchenpos.settlement.chunk-size}") final int chunkSize
+    ) {
+        this.orderHistoryRepository = orderHistoryRepository;
+        this.settlementRepository = settlementRepository;
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public Settlement settle(final LocalDate businessDate) {
+        if (Objects.isNull(businessDate)) {
+            throw new IllegalArgumentException();
+        }
+        final ChunkedAggregation aggregation = new ChunkedAggregation();
+        orderHistoryRepository.forEachByOrderDateTimeBetween(
+            businessDate.atStartOfDay(),
+            businessDate.plusDays(1).atStartOfDay(),
+            aggregation::accept
+        );
+        final Settlement settlement = aggregation.finish()
+            .toSettlement(businessDate, LocalDateTime.now());
+        return settlementRepository.save(settlement);
+    }
+
+    @Transactional(readOnly = true)
+    public Settlement findByBusinessDate(final LocalDate businessDate) {
+        return settlementRepository.findByBusinessDate(businessDate)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdown();
+    }
+
+    private static SettlementAccumulator aggregate(final List<OrderHistoryRow> rows) {
+        final SettlementAccumulator accumulator = new SettlementAccumulator();
+        OrderHistoryRow previous = null;
+        for (final OrderHistoryRow row : rows) {
+            accumulator.add(row, previous == null || !previous.getOrderId().equals(row.getOrderId()));
+            previous = row;
+        }
+        return accumulator;
+    }
+
+    private class ChunkedAggregation {
+        private final Semaphore inFlight = new Semaphore(pool.getParallelism() * 2);
+        private final List<CompletableFuture<SettlementAccumulator>> chunks = new ArrayList<>();
+        private List<OrderHistoryRow> rows = new ArrayList<>();
+
+        private void accept(final OrderHistoryRow row) {
+            if (rows.size() >= chunkSize && !rows.get(rows.size() - 1).getOrderId().equals(row.getOrderId())) {
+                submit();
+            }
+            rows.add(row);
+        }
+
+        private SettlementAccumulator finish() {
+            submit();
+            return chunks.stream()
+                .map(CompletableFuture::join)
+                .reduce(new SettlementAccumulator(), SettlementAccumulator::merge);
+        }
+
+        private void submit() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            final List<OrderHistoryRow> chunk = rows;
+            rows = new ArrayList<>();
+            inFlight.acquireUninterruptibly();
+            chunks.add(CompletableFuture.supplyAsync(() -> aggregate(chunk), pool)
+                .whenComplete((accumulator, e) -> inFlight.release()));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public class BestSeller {
+    private final UUID menuId;
+    private final String menuName;
+    private final long quantity;
+    private final long error;
+
+    public BestSeller(final UUID menuId, final String menuName, final long quantity, final long error) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.quantity = quantity;
+        this.error = error;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public long getError() {
+        return error;
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class IdempotencyKey {
+    private final String key;
+    private final UUID orderId;
+    private final LocalDateTime createdAt;
+
+    public IdempotencyKey(final String key, final UUID orderId, final LocalDateTime createdAt) {
+        this.key = key;
+        this.orderId = orderId;
+        this.createdAt = createdAt;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,15 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository {
+
+    IdempotencyKey save(IdempotencyKey idempotencyKey);
+
+    Optional<IdempotencyKey> findByKey(String key);
+
+    int deleteByKeyAndCreatedAtBefore(String key, LocalDateTime before);
+
+    int deleteAllByCreatedAtBefore(LocalDateTime before);
+}
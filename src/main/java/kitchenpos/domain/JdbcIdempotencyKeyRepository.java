@@ -0,0 +1,60 @@
+package kitchenpos.domain;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class JdbcIdempotencyKeyRepository implements IdempotencyKeyRepository {
+    private static final String INSERT =
+        "insert into idempotency_key (idempotency_key, order_id, created_at) values (:key, :orderId, :createdAt)";
+    private static final String SELECT_BY_KEY =
+        "select idempotency_key, order_id, created_at from idempotency_key where idempotency_key = :key";
+    private static final String DELETE_BY_KEY_AND_CREATED_AT =
+        "delete from idempotency_key where idempotency_key = :key and created_at < :before";
+    private static final String DELETE_BY_CREATED_AT = "delete from idempotency_key where created_at < :before";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcIdempotencyKeyRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public IdempotencyKey save(final IdempotencyKey idempotencyKey) {
+        jdbcTemplate.update(INSERT, new MapSqlParameterSource()
+            .addValue("key", idempotencyKey.getKey())
+            .addValue("orderId", Uuids.toBytes(idempotencyKey.getOrderId()))
+            .addValue("createdAt", Timestamp.valueOf(idempotencyKey.getCreatedAt())));
+        return idempotencyKey;
+    }
+
+    @Override
+    public Optional<IdempotencyKey> findByKey(final String key) {
+        return jdbcTemplate.query(
+            SELECT_BY_KEY,
+            new MapSqlParameterSource("key", key),
+            (resultSet, rowNum) -> new IdempotencyKey(
+                resultSet.getString("idempotency_key"),
+                Uuids.fromBytes(resultSet.getBytes("order_id")),
+                resultSet.getTimestamp("created_at").toLocalDateTime()
+            )
+        ).stream().findFirst();
+    }
+
+    @Override
+    public int deleteByKeyAndCreatedAtBefore(final String key, final LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_BY_KEY_AND_CREATED_AT, new MapSqlParameterSource()
+            .addValue("key", key)
+            .addValue("before", Timestamp.valueOf(before)));
+    }
+
+    @Override
+    public int deleteAllByCreatedAtBefore(final LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_BY_CREATED_AT, new MapSqlParameterSource("before", Timestamp.valueOf(before)));
+    }
+}
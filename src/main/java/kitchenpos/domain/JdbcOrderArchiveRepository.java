@@ -0,0 +1,71 @@
+package kitchenpos.domain;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class JdbcOrderArchiveRepository implements OrderArchiveRepository {
+    private static final String SELECT_COMPLETED_ORDER_IDS =
+        "select id from orders"
+            + " where status = :status and order_date_time < :orderDateTime"
+            + " order by order_date_time"
+            + " limit :limit";
+    private static final String INSERT_ARCHIVED_ORDERS =
+        "insert into archived_orders"
+            + " (id, delivery_address, order_date_time, status, type, order_table_id, total_amount, archived_at)"
+            + " select id, delivery_address, order_date_time, status, type, order_table_id, total_amount, :archivedAt"
+            + " from orders where id in (:ids) and status = :status";
+    private static final String INSERT_ARCHIVED_ORDER_LINE_ITEMS =
+        "insert into archived_order_line_item (seq, quantity, menu_id, order_id, price_amount, menu_name)"
+            + " select li.seq, li.quantity, li.menu_id, li.order_id, li.price_amount, li.menu_name"
+            + " from order_line_item li join archived_orders o on o.id = li.order_id"
+            + " where li.order_id in (:ids)";
+    private static final String DELETE_ORDER_LINE_ITEMS =
+        "delete from order_line_item where order_id in (select id from archived_orders where id in (:ids))";
+    private static final String DELETE_ORDERS =
+        "delete from orders where id in (select id from archived_orders where id in (:ids))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOrderArchiveRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<UUID> findCompletedOrderIdsBefore(final LocalDateTime orderDateTime, final int limit) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("status", OrderStatus.COMPLETED.name())
+            .addValue("orderDateTime", Timestamp.valueOf(orderDateTime))
+            .addValue("limit", limit);
+        return jdbcTemplate.query(
+            SELECT_COMPLETED_ORDER_IDS,
+            parameters,
+            (resultSet, rowNum) -> Uuids.fromBytes(resultSet.getBytes("id"))
+        );
+    }
+
+    @Override
+    public int archive(final List<UUID> orderIds, final LocalDateTime archivedAt) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("ids", orderIds.stream()
+                .map(Uuids::toBytes)
+                .collect(Collectors.toList()))
+            .addValue("status", OrderStatus.COMPLETED.name())
+            .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        final int archived = jdbcTemplate.update(INSERT_ARCHIVED_ORDERS, parameters);
+        jdbcTemplate.update(INSERT_ARCHIVED_ORDER_LINE_ITEMS, parameters);
+        jdbcTemplate.update(DELETE_ORDER_LINE_ITEMS, parameters);
+        jdbcTemplate.update(DELETE_ORDERS, parameters);
+        return archived;
+    }
+}
@@ -0,0 +1,62 @@
+package kitchenpos.domain;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class JdbcOrderBatchRepository implements OrderBatchRepository {
+    private static final String INSERT_ORDERS =
+        "insert into orders (id, delivery_address, order_date_time, status, type, order_table_id, total_amount)"
+            + " values (:id, :deliveryAddress, :orderDateTime, :status, :type, :orderTableId, :totalAmount)";
+    private static final String INSERT_ORDER_LINE_ITEMS =
+        "insert into order_line_item (quantity, menu_id, order_id, price_amount, menu_name)"
+            + " values (:quantity, :menuId, :orderId, :priceAmount, :menuName)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOrderBatchRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void saveAll(final List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        final List<SqlParameterSource> orderParameters = new ArrayList<>();
+        final List<SqlParameterSource> orderLineItemParameters = new ArrayList<>();
+        for (final Order order : orders) {
+            final OrderTable orderTable = order.getOrderTable();
+            orderParameters.add(new MapSqlParameterSource()
+                .addValue("id", Uuids.toBytes(order.getId()))
+                .addValue("deliveryAddress", order.getDeliveryAddress(), Types.VARCHAR)
+                .addValue("orderDateTime", Timestamp.valueOf(order.getOrderDateTime()))
+                .addValue("status", order.getStatus().name())
+                .addValue("type", order.getType().name())
+                .addValue(
+                    "orderTableId",
+                    Objects.isNull(orderTable) ? null : Uuids.toBytes(orderTable.getId()),
+                    Types.VARBINARY
+                )
+                .addValue("totalAmount", order.getTotalAmount()));
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                orderLineItemParameters.add(new MapSqlParameterSource()
+                    .addValue("quantity", orderLineItem.getQuantity())
+                    .addValue("menuId", Uuids.toBytes(orderLineItem.getMenu().getId()))
+                    .addValue("orderId", Uuids.toBytes(order.getId()))
+                    .addValue("priceAmount", orderLineItem.getPriceAmount())
+                    .addValue("menuName", orderLineItem.getMenuName()));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDERS, orderParameters.toArray(new SqlParameterSource[0]));
+        jdbcTemplate.batchUpdate(INSERT_ORDER_LINE_ITEMS, orderLineItemParameters.toArray(new SqlParameterSource[0]));
+    }
+}
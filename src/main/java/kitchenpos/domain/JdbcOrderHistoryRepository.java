@@ -0,0 +1,85 @@
+package kitchenpos.domain;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class JdbcOrderHistoryRepository implements OrderHistoryRepository {
+    private static final int FETCH_SIZE = 1000;
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final String SELECT_BY_ORDER_DATE_TIME =
+        "select h.id, h.type, h.status, h.order_date_time, h.delivery_address, h.order_table_id, h.menu_id, h.menu_name,"
+            + " h.price_amount, h.quantity"
+            + " from ("
+            + " select o.id, o.type, o.status, o.order_date_time, o.delivery_address, o.order_table_id,"
+            + " li.seq, li.menu_id, li.menu_name, li.price_amount, li.quantity"
+            + " from orders o"
+            + " join order_line_item li on li.order_id = o.id"
+            + " where o.order_date_time >= ? and o.order_date_time < ?"
+            + " union all"
+            + " select o.id, o.type, o.status, o.order_date_time, o.delivery_address, o.order_table_id,"
+            + " li.seq, li.menu_id, li.menu_name, li.price_amount, li.quantity"
+            + " from archived_orders o"
+            + " join archived_order_line_item li on li.order_id = o.id"
+            + " where o.order_date_time >= ? and o.order_date_time < ?"
+            + " ) h"
+            + " order by h.order_date_time, h.id, h.seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderHistoryRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize(dataSource));
+    }
+
+    @Override
+    public void forEachByOrderDateTimeBetween(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final Consumer<OrderHistoryRow> action
+    ) {
+        jdbcTemplate.query(
+            SELECT_BY_ORDER_DATE_TIME,
+            (RowCallbackHandler) resultSet -> action.accept(mapRow(resultSet)),
+            Timestamp.valueOf(from),
+            Timestamp.valueOf(to),
+            Timestamp.valueOf(from),
+            Timestamp.valueOf(to)
+        );
+    }
+
+    private static int fetchSize(final DataSource dataSource) {
+        try {
+            final String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product.toLowerCase(Locale.ROOT).contains("mysql") ? MYSQL_STREAMING_FETCH_SIZE : FETCH_SIZE;
+        } catch (final MetaDataAccessException e) {
+            return FETCH_SIZE;
+        }
+    }
+
+    private OrderHistoryRow mapRow(final ResultSet resultSet) throws SQLException {
+        return new OrderHistoryRow(
+            Uuids.fromBytes(resultSet.getBytes("id")),
+            OrderType.valueOf(resultSet.getString("type")),
+            OrderStatus.valueOf(resultSet.getString("status")),
+            resultSet.getTimestamp("order_date_time").toLocalDateTime(),
+            resultSet.getString("delivery_address"),
+            Uuids.fromBytes(resultSet.getBytes("order_table_id")),
+            Uuids.fromBytes(resultSet.getBytes("menu_id")),
+            resultSet.getString("menu_name"),
+            resultSet.getLong("price_amount"),
+            resultSet.getLong("quantity")
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package kitchenpos.domain;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class JdbcPendingDeliveryRepository implements PendingDeliveryRepository {
+    private static final String INSERT =
+        "insert into pending_delivery (order_id, address_key, delivery_address, amount, attempts, due_at, created_at)"
+            + " values (:orderId, :addressKey, :deliveryAddress, :amount, :attempts, :dueAt, :createdAt)";
+    private static final String SELECT_DISPATCHABLE =
+        "select order_id, address_key, delivery_address, amount, attempts, due_at, created_at"
+            + " from pending_delivery"
+            + " where failed_at is null"
+            + " and address_key in (select address_key from pending_delivery where failed_at is null group by address_key"
+            + " having min(due_at) <= :now or sum(case when attempts = 0 then 1 else 0 end) >= :batchSize)"
+            + " order by created_at, order_id";
+    private static final String DELETE_BY_ORDER_IDS = "delete from pending_delivery where order_id in (:orderIds)";
+    private static final String RETRY_BY_ORDER_IDS =
+        "update pending_delivery set attempts = attempts + 1, due_at = :dueAt where order_id in (:orderIds)";
+    private static final String POSTPONE_BY_ORDER_IDS =
+        "update pending_delivery set due_at = :dueAt where order_id in (:orderIds)";
+    private static final String FAIL_BY_ORDER_IDS =
+        "update pending_delivery set attempts = attempts + 1, failed_at = :failedAt where order_id in (:orderIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcPendingDeliveryRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public PendingDelivery save(final PendingDelivery pendingDelivery) {
+        jdbcTemplate.update(INSERT, new MapSqlParameterSource()
+            .addValue("orderId", Uuids.toBytes(pendingDelivery.getOrderId()))
+            .addValue("addressKey", pendingDelivery.getAddressKey())
+            .addValue("deliveryAddress", pendingDelivery.getDeliveryAddress())
+            .addValue("amount", pendingDelivery.getAmount())
+            .addValue("attempts", pendingDelivery.getAttempts())
+            .addValue("dueAt", Timestamp.valueOf(pendingDelivery.getDueAt()))
+            .addValue("createdAt", Timestamp.valueOf(pendingDelivery.getCreatedAt())));
+        return pendingDelivery;
+    }
+
+    @Override
+    public List<PendingDelivery> findAllDispatchable(final LocalDateTime now, final int batchSize) {
+        return jdbcTemplate.query(
+            SELECT_DISPATCHABLE,
+            new MapSqlParameterSource()
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("batchSize", batchSize),
+            (resultSet, rowNum) -> new PendingDelivery(
+                Uuids.fromBytes(resultSet.getBytes("order_id")),
+                resultSet.getString("address_key"),
+                resultSet.getString("delivery_address"),
+                resultSet.getBigDecimal("amount"),
+                resultSet.getInt("attempts"),
+                resultSet.getTimestamp("due_at").toLocalDateTime(),
+                resultSet.getTimestamp("created_at").toLocalDateTime()
+            )
+        );
+    }
+
+    @Override
+    public int deleteAllByOrderIdIn(final List<UUID> orderIds) {
+        return jdbcTemplate.update(DELETE_BY_ORDER_IDS, new MapSqlParameterSource("orderIds", toBytes(orderIds)));
+    }
+
+    @Override
+    public int retryAllByOrderIdIn(final List<UUID> orderIds, final LocalDateTime dueAt) {
+        return jdbcTemplate.update(RETRY_BY_ORDER_IDS, new MapSqlParameterSource()
+            .addValue("orderIds", toBytes(orderIds))
+            .addValue("dueAt", Timestamp.valueOf(dueAt)));
+    }
+
+    @Override
+    public int postponeAllByOrderIdIn(final List<UUID> orderIds, final LocalDateTime dueAt) {
+        return jdbcTemplate.update(POSTPONE_BY_ORDER_IDS, new MapSqlParameterSource()
+            .addValue("orderIds", toBytes(orderIds))
+            .addValue("dueAt", Timestamp.valueOf(dueAt)));
+    }
+
+    @Override
+    public int failAllByOrderIdIn(final List<UUID> orderIds, final LocalDateTime failedAt) {
+        return jdbcTemplate.update(FAIL_BY_ORDER_IDS, new MapSqlParameterSource()
+            .addValue("orderIds", toBytes(orderIds))
+            .addValue("failedAt", Timestamp.valueOf(failedAt)));
+    }
+
+    private static List<byte[]> toBytes(final List<UUID> orderIds) {
+        return orderIds.stream()
+            .map(Uuids::toBytes)
+            .collect(Collectors.toList());
+    }
+}
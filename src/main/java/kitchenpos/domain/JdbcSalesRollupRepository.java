@@ -0,0 +1,68 @@
+package kitchenpos.domain;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+class JdbcSalesRollupRepository implements SalesRollupRepository {
+    private static final String UPSERT =
+        "insert into sales_rollup (bucket_hour, dimension, dimension_id, quantity, amount)"
+            + " values (:bucketHour, :dimension, :dimensionId, :quantity, :amount)"
+            + " on duplicate key update quantity = quantity + :quantity, amount = amount + :amount";
+    private static final String SELECT_BY_BUCKET_HOUR =
+        "select bucket_hour, dimension, dimension_id, quantity, amount from sales_rollup"
+            + " where bucket_hour >= :from and bucket_hour < :to"
+            + " order by bucket_hour, dimension, amount desc";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcSalesRollupRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public void addAll(final Collection<SalesRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT, rollups.stream()
+            .map(this::toParameters)
+            .toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    public List<SalesRollup> findAllByBucketHourBetween(final LocalDateTime from, final LocalDateTime to) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("from", Timestamp.valueOf(from))
+            .addValue("to", Timestamp.valueOf(to));
+        return jdbcTemplate.query(
+            SELECT_BY_BUCKET_HOUR,
+            parameters,
+            (resultSet, rowNum) -> new SalesRollup(
+                resultSet.getTimestamp("bucket_hour").toLocalDateTime(),
+                SalesDimension.valueOf(resultSet.getString("dimension")),
+                Uuids.fromBytes(resultSet.getBytes("dimension_id")),
+                resultSet.getLong("quantity"),
+                Money.ofMinor(resultSet.getLong("amount"))
+            )
+        );
+    }
+
+    private SqlParameterSource toParameters(final SalesRollup rollup) {
+        return new MapSqlParameterSource()
+            .addValue("bucketHour", Timestamp.valueOf(rollup.getBucketHour()))
+            .addValue("dimension", rollup.getDimension().name())
+            .addValue("dimensionId", Uuids.toBytes(rollup.getDimensionId()))
+            .addValue("quantity", rollup.getQuantity())
+            .addValue("amount", rollup.amount().getAmount());
+    }
+}
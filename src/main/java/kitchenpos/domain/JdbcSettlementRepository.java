@@ -0,0 +1,96 @@
+package kitchenpos.domain;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+class JdbcSettlementRepository implements SettlementRepository {
+    private static final String DELETE_SETTLEMENT_LINES = "delete from settlement_line where business_date = :businessDate";
+    private static final String DELETE_SETTLEMENT = "delete from settlement where business_date = :businessDate";
+    private static final String INSERT_SETTLEMENT =
+        "insert into settlement (business_date, order_count, quantity, amount, settled_at)"
+            + " values (:businessDate, :orderCount, :quantity, :amount, :settledAt)";
+    private static final String INSERT_SETTLEMENT_LINE =
+        "insert into settlement_line (business_date, dimension, dimension_key, order_count, quantity, amount)"
+            + " values (:businessDate, :dimension, :dimensionKey, :orderCount, :quantity, :amount)";
+    private static final String SELECT_SETTLEMENT =
+        "select business_date, order_count, quantity, amount, settled_at from settlement"
+            + " where business_date = :businessDate";
+    private static final String SELECT_SETTLEMENT_LINES =
+        "select dimension, dimension_key, order_count, quantity, amount from settlement_line"
+            + " where business_date = :businessDate"
+            + " order by dimension, amount desc, dimension_key";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcSettlementRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public Settlement save(final Settlement settlement) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("businessDate", Date.valueOf(settlement.getBusinessDate()))
+            .addValue("orderCount", settlement.getOrderCount())
+            .addValue("quantity", settlement.getQuantity())
+            .addValue("amount", settlement.amount().getAmount())
+            .addValue("settledAt", Timestamp.valueOf(settlement.getSettledAt()));
+        jdbcTemplate.update(DELETE_SETTLEMENT_LINES, parameters);
+        jdbcTemplate.update(DELETE_SETTLEMENT, parameters);
+        jdbcTemplate.update(INSERT_SETTLEMENT, parameters);
+        jdbcTemplate.batchUpdate(INSERT_SETTLEMENT_LINE, settlement.getLines()
+            .stream()
+            .map(line -> toParameters(settlement.getBusinessDate(), line))
+            .toArray(SqlParameterSource[]::new));
+        return settlement;
+    }
+
+    @Override
+    public Optional<Settlement> findByBusinessDate(final LocalDate businessDate) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("businessDate", Date.valueOf(businessDate));
+        final List<SettlementLine> lines = jdbcTemplate.query(
+            SELECT_SETTLEMENT_LINES,
+            parameters,
+            (resultSet, rowNum) -> new SettlementLine(
+                SettlementDimension.valueOf(resultSet.getString("dimension")),
+                resultSet.getString("dimension_key"),
+                resultSet.getLong("order_count"),
+                resultSet.getLong("quantity"),
+                Money.ofMinor(resultSet.getLong("amount"))
+            )
+        );
+        return jdbcTemplate.query(
+            SELECT_SETTLEMENT,
+            parameters,
+            (resultSet, rowNum) -> new Settlement(
+                resultSet.getDate("business_date").toLocalDate(),
+                resultSet.getLong("order_count"),
+                resultSet.getLong("quantity"),
+                Money.ofMinor(resultSet.getLong("amount")),
+                resultSet.getTimestamp("settled_at").toLocalDateTime(),
+                lines
+            )
+        ).stream().findFirst();
+    }
+
+    private SqlParameterSource toParameters(final LocalDate businessDate, final SettlementLine line) {
+        return new MapSqlParameterSource()
+            .addValue("businessDate", Date.valueOf(businessDate))
+            .addValue("dimension", line.getDimension().name())
+            .addValue("dimensionKey", line.getDimensionKey())
+            .addValue("orderCount", line.getOrderCount())
+            .addValue("quantity", line.getQuantity())
+            .addValue("amount", line.amount().getAmount());
+    }
+}
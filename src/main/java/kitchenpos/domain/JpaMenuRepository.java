@@ -1,14 +1,31 @@
 package kitchenpos.domain;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 interface JpaMenuRepository extends MenuRepository, JpaRepository<Menu, UUID> {
 
     @Override
-    @Query("select m from Menu m, MenuProduct mp where mp.product.id = :productId")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<Menu> findAllByIdIn(List<UUID> ids);
+
+    @Override
+    @Query("select new kitchenpos.domain.MenuSummary(m.id, m.name, m.price, m.displayed, m.menuGroup.id) from Menu m")
+    List<MenuSummary> findAllSummaries();
+
+    @Override
+    @EntityGraph("Menu.menuProducts")
+    Optional<Menu> findWithMenuProductsById(UUID id);
+
+    @Override
+    @EntityGraph("Menu.menuProducts")
+    @Query("select distinct m from Menu m join m.menuProducts mp where mp.product.id = :productId")
     List<Menu> findAllByProductId(@Param("productId") UUID productId);
 }
@@ -1,8 +1,103 @@
 package kitchenpos.domain;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 interface JpaOrderRepository extends OrderRepository, JpaRepository<Order, UUID> {
 
+    @Query("select new kitchenpos.domain.OrderSummary(o.id, o.type, o.status, o.orderDateTime, o.deliveryAddress, ot.id,"
+        + " o.totalAmount)"
+        + " from Order o left join o.orderTable ot")
+    List<OrderSummary> findAllOrderSummaries();
+
+    @Query("select o.id, li.menu.id, li.menuName, li.priceAmount, li.quantity from Order o join o.orderLineItems li order by li.seq")
+    List<Object[]> findAllOrderLineItemSummaries();
+
+    @Query("select new kitchenpos.domain.OrderSummary(o.id, o.type, o.status, o.orderDateTime, o.deliveryAddress, ot.id,"
+        + " o.totalAmount)"
+        + " from Order o left join o.orderTable ot"
+        + " where o.orderDateTime >= :from and o.orderDateTime < :to")
+    List<OrderSummary> findAllOrderSummariesByOrderDateTime(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Query("select o.id, li.menu.id, li.menuName, li.priceAmount, li.quantity from Order o join o.orderLineItems li"
+        + " where o.orderDateTime >= :from and o.orderDateTime < :to"
+        + " order by li.seq")
+    List<Object[]> findAllOrderLineItemSummariesByOrderDateTime(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Query("select new kitchenpos.domain.OrderSummary(o.id, o.type, o.status, o.orderDateTime, o.deliveryAddress, ot.id,"
+        + " o.totalAmount)"
+        + " from Order o left join o.orderTable ot"
+        + " where o.status in :statuses")
+    List<OrderSummary> findAllOrderSummariesByStatus(@Param("statuses") Collection<OrderStatus> statuses);
+
+    @Query("select o.id, li.menu.id, li.menuName, li.priceAmount, li.quantity from Order o join o.orderLineItems li"
+        + " where o.status in :statuses"
+        + " order by li.seq")
+    List<Object[]> findAllOrderLineItemSummariesByStatus(@Param("statuses") Collection<OrderStatus> statuses);
+
+    @Override
+    @Query("select new kitchenpos.domain.OrderLineItemSummary(li.menu.id, li.menuName, li.priceAmount, li.quantity)"
+        + " from Order o join o.orderLineItems li"
+        + " where o.id = :orderId"
+        + " order by li.seq")
+    List<OrderLineItemSummary> findAllLineItemSummariesByOrderId(@Param("orderId") UUID orderId);
+
+    @Override
+    @Query("select new kitchenpos.domain.OrderTableBillLine(li.menu.id, li.menuName, li.priceAmount, sum(li.quantity))"
+        + " from Order o join o.orderLineItems li"
+        + " where o.orderTable.id = :orderTableId and o.status <> :status"
+        + " group by li.menu.id, li.menuName, li.priceAmount"
+        + " order by min(li.seq)")
+    List<OrderTableBillLine> findAllBillLinesByOrderTableIdAndStatusNot(
+        @Param("orderTableId") UUID orderTableId,
+        @Param("status") OrderStatus status
+    );
+
+    @Override
+    @Query("select o.type from Order o where o.id = :id")
+    Optional<OrderType> findTypeById(@Param("id") UUID id);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :to where o.id = :id and o.status = :from and o.type in :types")
+    int updateStatus(
+        @Param("id") UUID id,
+        @Param("types") Collection<OrderType> types,
+        @Param("from") OrderStatus from,
+        @Param("to") OrderStatus to
+    );
+
+    @Override
+    default List<OrderSummary> findAllSummaries() {
+        return OrderSummaries.assemble(findAllOrderSummaries(), findAllOrderLineItemSummaries());
+    }
+
+    @Override
+    default List<OrderSummary> findAllSummariesByOrderDateTimeBetween(final LocalDateTime from, final LocalDateTime to) {
+        return OrderSummaries.assemble(
+            findAllOrderSummariesByOrderDateTime(from, to),
+            findAllOrderLineItemSummariesByOrderDateTime(from, to)
+        );
+    }
+
+    @Override
+    default List<OrderSummary> findAllSummariesByStatusIn(final Collection<OrderStatus> statuses) {
+        return OrderSummaries.assemble(
+            findAllOrderSummariesByStatus(statuses),
+            findAllOrderLineItemSummariesByStatus(statuses)
+        );
+    }
 }
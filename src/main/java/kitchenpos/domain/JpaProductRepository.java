@@ -2,8 +2,13 @@ package kitchenpos.domain;
 
 import java.util.List;
 import java.util.UUID;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 interface JpaProductRepository extends ProductRepository, JpaRepository<Product, UUID> {
+
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Product> findAllByIdIn(List<UUID> ids);
 }
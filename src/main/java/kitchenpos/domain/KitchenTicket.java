@@ -0,0 +1,62 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public class KitchenTicket {
+    private final UUID id;
+    private final UUID orderId;
+    private final OrderType orderType;
+    private final String station;
+    private final LocalDateTime promisedAt;
+    private final LocalDateTime startBy;
+    private final List<KitchenWorkloadItem> items;
+
+    public KitchenTicket(
+        final UUID id,
+        final UUID orderId,
+        final OrderType orderType,
+        final String station,
+        final LocalDateTime promisedAt,
+        final LocalDateTime startBy,
+        final List<KitchenWorkloadItem> items
+    ) {
+        this.id = id;
+        this.orderId = orderId;
+        this.orderType = orderType;
+        this.station = station;
+        this.promisedAt = promisedAt;
+        this.startBy = startBy;
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    public String getStation() {
+        return station;
+    }
+
+    public LocalDateTime getPromisedAt() {
+        return promisedAt;
+    }
+
+    public LocalDateTime getStartBy() {
+        return startBy;
+    }
+
+    public List<KitchenWorkloadItem> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,24 @@
+package kitchenpos.domain;
+
+import java.util.Collections;
+import java.util.List;
+
+public class KitchenWorkload {
+    public static final KitchenWorkload EMPTY = new KitchenWorkload(Collections.emptyList(), Collections.emptyList());
+
+    private final List<KitchenWorkloadItem> menus;
+    private final List<KitchenWorkloadItem> products;
+
+    public KitchenWorkload(final List<KitchenWorkloadItem> menus, final List<KitchenWorkloadItem> products) {
+        this.menus = Collections.unmodifiableList(menus);
+        this.products = Collections.unmodifiableList(products);
+    }
+
+    public List<KitchenWorkloadItem> getMenus() {
+        return menus;
+    }
+
+    public List<KitchenWorkloadItem> getProducts() {
+        return products;
+    }
+}
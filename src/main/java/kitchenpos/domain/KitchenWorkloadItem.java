@@ -0,0 +1,27 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public class KitchenWorkloadItem {
+    private final UUID id;
+    private final String name;
+    private final long quantity;
+
+    public KitchenWorkloadItem(final UUID id, final String name, final long quantity) {
+        this.id = id;
+        this.name = name;
+        this.quantity = quantity;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
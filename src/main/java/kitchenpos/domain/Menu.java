@@ -1,5 +1,10 @@
 package kitchenpos.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.math.BigDecimal;
 import java.util.List;
@@ -7,6 +12,12 @@ import java.util.UUID;
 
 @Table(name = "menu")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu")
+@NamedEntityGraph(
+    name = "Menu.menuProducts",
+    attributeNodes = @NamedAttributeNode(value = "menuProducts", subgraph = "menuProducts"),
+    subgraphs = @NamedSubgraph(name = "menuProducts", attributeNodes = @NamedAttributeNode("product"))
+)
 public class Menu {
     @Column(name = "id", columnDefinition = "varbinary(16)")
     @Id
@@ -16,7 +27,7 @@ public class Menu {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
 
     @ManyToOne(optional = false)
     @JoinColumn(
@@ -30,6 +41,8 @@ public class Menu {
     private boolean displayed;
 
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-products")
     @JoinColumn(
         name = "menu_id",
         nullable = false,
@@ -61,11 +74,19 @@ public class Menu {
     }
 
     public BigDecimal getPrice() {
-        return price;
+        if (price == null) {
+            return null;
+        }
+        return price.toBigDecimal();
     }
 
     public void setPrice(final BigDecimal price) {
-        this.price = price;
+        this.price = Money.of(price);
+    }
+
+    @JsonIgnore
+    public Money getPriceMoney() {
+        return price;
     }
 
     public MenuGroup getMenuGroup() {
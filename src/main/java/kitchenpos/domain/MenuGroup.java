@@ -1,5 +1,8 @@
 package kitchenpos.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -8,6 +11,7 @@ import java.util.UUID;
 
 @Table(name = "menu_group")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-group")
 public class MenuGroup {
     @Column(name = "id", columnDefinition = "varbinary(16)")
     @Id
@@ -1,10 +1,14 @@
 package kitchenpos.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.util.UUID;
 
 @Table(name = "menu_product")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-product")
 public class MenuProduct {
     @Column(name = "seq")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -10,8 +10,12 @@ public interface MenuRepository {
 
     Optional<Menu> findById(UUID id);
 
+    Optional<Menu> findWithMenuProductsById(UUID id);
+
     List<Menu> findAll();
 
+    List<MenuSummary> findAllSummaries();
+
     List<Menu> findAllByIdIn(List<UUID> ids);
 
     List<Menu> findAllByProductId(UUID productId);
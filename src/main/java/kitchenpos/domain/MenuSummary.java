@@ -0,0 +1,46 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class MenuSummary {
+    private final UUID id;
+    private final String name;
+    private final Money price;
+    private final boolean displayed;
+    private final UUID menuGroupId;
+
+    public MenuSummary(
+        final UUID id,
+        final String name,
+        final Money price,
+        final boolean displayed,
+        final UUID menuGroupId
+    ) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.displayed = displayed;
+        this.menuGroupId = menuGroupId;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price.toBigDecimal();
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public UUID getMenuGroupId() {
+        return menuGroupId;
+    }
+}
@@ -0,0 +1,85 @@
+package kitchenpos.domain;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+public final class Money implements Comparable<Money>, Serializable {
+    private static final long serialVersionUID = 1L;
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private final long amount;
+
+    private Money(final long amount) {
+        this.amount = amount;
+    }
+
+    public static Money ofMinor(final long amount) {
+        return amount == 0L ? ZERO : new Money(amount);
+    }
+
+    public static Money of(final BigDecimal value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        try {
+            return ofMinor(value.setScale(SCALE, RoundingMode.UNNECESSARY)
+                .unscaledValue()
+                .longValueExact());
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public Money plus(final Money other) {
+        return ofMinor(Math.addExact(amount, other.amount));
+    }
+
+    public Money times(final long quantity) {
+        return ofMinor(Math.multiplyExact(amount, quantity));
+    }
+
+    public boolean isNegative() {
+        return amount < 0L;
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return amount > other.amount;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount, SCALE);
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return amount == ((Money) o).amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(final Money attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(final BigDecimal dbData) {
+        return Money.of(dbData);
+    }
+}
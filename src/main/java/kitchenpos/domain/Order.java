@@ -1,5 +1,7 @@
 package kitchenpos.domain;
 
+import org.hibernate.annotations.BatchSize;
+
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +26,7 @@ public class Order {
     private LocalDateTime orderDateTime;
 
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 100)
     @JoinColumn(
         name = "order_id",
         nullable = false,
@@ -32,6 +35,9 @@ public class Order {
     )
     private List<OrderLineItem> orderLineItems;
 
+    @Column(name = "total_amount", nullable = false)
+    private long totalAmount;
+
     @Column(name = "delivery_address")
     private String deliveryAddress;
 
@@ -89,6 +95,14 @@ public class Order {
         this.orderLineItems = orderLineItems;
     }
 
+    public long getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(final long totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
     public String getDeliveryAddress() {
         return deliveryAddress;
     }
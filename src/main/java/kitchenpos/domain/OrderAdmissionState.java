@@ -0,0 +1,50 @@
+package kitchenpos.domain;
+
+public class OrderAdmissionState {
+    private final OrderType type;
+    private final int inFlight;
+    private final Integer maxInFlight;
+    private final int backlog;
+    private final Integer maxBacklog;
+    private final long rejected;
+
+    public OrderAdmissionState(
+        final OrderType type,
+        final int inFlight,
+        final Integer maxInFlight,
+        final int backlog,
+        final Integer maxBacklog,
+        final long rejected
+    ) {
+        this.type = type;
+        this.inFlight = inFlight;
+        this.maxInFlight = maxInFlight;
+        this.backlog = backlog;
+        this.maxBacklog = maxBacklog;
+        this.rejected = rejected;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public Integer getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getBacklog() {
+        return backlog;
+    }
+
+    public Integer getMaxBacklog() {
+        return maxBacklog;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,12 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderArchiveRepository {
+
+    List<UUID> findCompletedOrderIdsBefore(LocalDateTime orderDateTime, int limit);
+
+    int archive(List<UUID> orderIds, LocalDateTime archivedAt);
+}
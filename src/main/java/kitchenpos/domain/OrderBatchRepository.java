@@ -0,0 +1,8 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public interface OrderBatchRepository {
+
+    void saveAll(List<Order> orders);
+}
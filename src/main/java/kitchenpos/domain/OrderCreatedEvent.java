@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+public class OrderCreatedEvent {
+    private final OrderSummary order;
+
+    public OrderCreatedEvent(final OrderSummary order) {
+        this.order = order;
+    }
+
+    public OrderSummary getOrder() {
+        return order;
+    }
+}
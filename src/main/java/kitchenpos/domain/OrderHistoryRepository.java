@@ -0,0 +1,9 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface OrderHistoryRepository {
+
+    void forEachByOrderDateTimeBetween(LocalDateTime from, LocalDateTime to, Consumer<OrderHistoryRow> action);
+}
@@ -0,0 +1,81 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class OrderHistoryRow {
+    private final UUID orderId;
+    private final OrderType type;
+    private final OrderStatus status;
+    private final LocalDateTime orderDateTime;
+    private final String deliveryAddress;
+    private final UUID orderTableId;
+    private final UUID menuId;
+    private final String menuName;
+    private final long priceAmount;
+    private final long quantity;
+
+    public OrderHistoryRow(
+        final UUID orderId,
+        final OrderType type,
+        final OrderStatus status,
+        final LocalDateTime orderDateTime,
+        final String deliveryAddress,
+        final UUID orderTableId,
+        final UUID menuId,
+        final String menuName,
+        final long priceAmount,
+        final long quantity
+    ) {
+        this.orderId = orderId;
+        this.type = type;
+        this.status = status;
+        this.orderDateTime = orderDateTime;
+        this.deliveryAddress = deliveryAddress;
+        this.orderTableId = orderTableId;
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.priceAmount = priceAmount;
+        this.quantity = quantity;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public long getPriceAmount() {
+        return priceAmount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
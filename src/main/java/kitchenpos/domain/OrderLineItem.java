@@ -20,9 +20,15 @@ public class OrderLineItem {
     )
     private Menu menu;
 
+    @Column(name = "menu_name", nullable = false)
+    private String menuName;
+
     @Column(name = "quantity", nullable = false)
     private long quantity;
 
+    @Column(name = "price_amount", nullable = false)
+    private long priceAmount;
+
     @Transient
     private UUID menuId;
 
@@ -48,6 +54,14 @@ public class OrderLineItem {
         this.menu = menu;
     }
 
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public void setMenuName(final String menuName) {
+        this.menuName = menuName;
+    }
+
     public long getQuantity() {
         return quantity;
     }
@@ -56,6 +70,14 @@ public class OrderLineItem {
         this.quantity = quantity;
     }
 
+    public long getPriceAmount() {
+        return priceAmount;
+    }
+
+    public void setPriceAmount(final long priceAmount) {
+        this.priceAmount = priceAmount;
+    }
+
     public UUID getMenuId() {
         return menuId;
     }
@@ -0,0 +1,34 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class OrderLineItemSummary {
+    private final UUID menuId;
+    private final String menuName;
+    private final BigDecimal price;
+    private final long quantity;
+
+    public OrderLineItemSummary(final UUID menuId, final String menuName, final long priceAmount, final long quantity) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.price = Money.ofMinor(priceAmount).toBigDecimal();
+        this.quantity = quantity;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
@@ -1,5 +1,7 @@
 package kitchenpos.domain;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,6 +14,20 @@ public interface OrderRepository {
 
     List<Order> findAll();
 
+    List<OrderSummary> findAllSummaries();
+
+    List<OrderSummary> findAllSummariesByOrderDateTimeBetween(LocalDateTime from, LocalDateTime to);
+
+    List<OrderSummary> findAllSummariesByStatusIn(Collection<OrderStatus> statuses);
+
+    List<OrderLineItemSummary> findAllLineItemSummariesByOrderId(UUID orderId);
+
+    List<OrderTableBillLine> findAllBillLinesByOrderTableIdAndStatusNot(UUID orderTableId, OrderStatus status);
+
+    Optional<OrderType> findTypeById(UUID id);
+
+    int updateStatus(UUID id, Collection<OrderType> types, OrderStatus from, OrderStatus to);
+
     boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
 }
 
@@ -0,0 +1,28 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class OrderSlaBreach {
+    private final UUID orderId;
+    private final OrderStatus status;
+    private final LocalDateTime deadline;
+
+    public OrderSlaBreach(final UUID orderId, final OrderStatus status, final LocalDateTime deadline) {
+        this.orderId = orderId;
+        this.status = status;
+        this.deadline = deadline;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+}
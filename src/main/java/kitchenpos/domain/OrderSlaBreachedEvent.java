@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+public class OrderSlaBreachedEvent {
+    private final OrderSlaBreach breach;
+
+    public OrderSlaBreachedEvent(final OrderSlaBreach breach) {
+        this.breach = breach;
+    }
+
+    public OrderSlaBreach getBreach() {
+        return breach;
+    }
+}
@@ -0,0 +1,30 @@
+package kitchenpos.domain;
+
+public final class OrderStateMachine {
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final OrderStatus[][] SOURCES = new OrderStatus[TYPES.length][STATUSES.length];
+
+    static {
+        for (final OrderType type : TYPES) {
+            allow(type, OrderStatus.WAITING, OrderStatus.ACCEPTED);
+            allow(type, OrderStatus.ACCEPTED, OrderStatus.SERVED);
+        }
+        allow(OrderType.DELIVERY, OrderStatus.SERVED, OrderStatus.DELIVERING);
+        allow(OrderType.DELIVERY, OrderStatus.DELIVERING, OrderStatus.DELIVERED);
+        allow(OrderType.DELIVERY, OrderStatus.DELIVERED, OrderStatus.COMPLETED);
+        allow(OrderType.TAKEOUT, OrderStatus.SERVED, OrderStatus.COMPLETED);
+        allow(OrderType.EAT_IN, OrderStatus.SERVED, OrderStatus.COMPLETED);
+    }
+
+    private OrderStateMachine() {
+    }
+
+    private static void allow(final OrderType type, final OrderStatus from, final OrderStatus to) {
+        SOURCES[type.ordinal()][to.ordinal()] = from;
+    }
+
+    public static OrderStatus sourceOf(final OrderType type, final OrderStatus to) {
+        return SOURCES[type.ordinal()][to.ordinal()];
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.domain;
+
+public class OrderStatusChangedEvent {
+    private final OrderSummary order;
+    private final OrderStatus previousStatus;
+
+    public OrderStatusChangedEvent(final OrderSummary order, final OrderStatus previousStatus) {
+        this.order = order;
+        this.previousStatus = previousStatus;
+    }
+
+    public OrderSummary getOrder() {
+        return order;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.domain;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class OrderSummaries {
+
+    private OrderSummaries() {
+    }
+
+    static List<OrderSummary> assemble(final List<OrderSummary> orderSummaries, final List<Object[]> orderLineItemRows) {
+        final Map<UUID, OrderSummary> orders = new LinkedHashMap<>();
+        for (final OrderSummary order : orderSummaries) {
+            orders.put(order.getId(), order);
+        }
+        for (final Object[] row : orderLineItemRows) {
+            final OrderSummary order = orders.get((UUID) row[0]);
+            if (order != null) {
+                order.addOrderLineItem(new OrderLineItemSummary(
+                    (UUID) row[1],
+                    (String) row[2],
+                    (Long) row[3],
+                    (Long) row[4]
+                ));
+            }
+        }
+        return new ArrayList<>(orders.values());
+    }
+}
@@ -0,0 +1,107 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public class OrderSummary {
+    private final UUID id;
+    private final OrderType type;
+    private final OrderStatus status;
+    private final LocalDateTime orderDateTime;
+    private final String deliveryAddress;
+    private final UUID orderTableId;
+    private final Money totalAmount;
+    private final List<OrderLineItemSummary> orderLineItems = new ArrayList<>();
+
+    public OrderSummary(
+        final UUID id,
+        final OrderType type,
+        final OrderStatus status,
+        final LocalDateTime orderDateTime,
+        final String deliveryAddress,
+        final UUID orderTableId,
+        final long totalAmount
+    ) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.orderDateTime = orderDateTime;
+        this.deliveryAddress = deliveryAddress;
+        this.orderTableId = orderTableId;
+        this.totalAmount = Money.ofMinor(totalAmount);
+    }
+
+    public static OrderSummary from(final Order order) {
+        final OrderSummary summary = withoutOrderLineItems(order);
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            summary.addOrderLineItem(new OrderLineItemSummary(
+                orderLineItem.getMenu().getId(),
+                orderLineItem.getMenuName(),
+                orderLineItem.getPriceAmount(),
+                orderLineItem.getQuantity()
+            ));
+        }
+        return summary;
+    }
+
+    public static OrderSummary withoutOrderLineItems(final Order order) {
+        final OrderTable orderTable = order.getOrderTable();
+        return new OrderSummary(
+            order.getId(),
+            order.getType(),
+            order.getStatus(),
+            order.getOrderDateTime(),
+            order.getDeliveryAddress(),
+            Objects.isNull(orderTable) ? null : orderTable.getId(),
+            order.getTotalAmount()
+        );
+    }
+
+    public OrderSummary withOrderLineItems(final List<OrderLineItemSummary> orderLineItems) {
+        final OrderSummary summary = new OrderSummary(
+            id, type, status, orderDateTime, deliveryAddress, orderTableId, totalAmount.getAmount()
+        );
+        summary.orderLineItems.addAll(orderLineItems);
+        return summary;
+    }
+
+    public void addOrderLineItem(final OrderLineItemSummary orderLineItem) {
+        orderLineItems.add(orderLineItem);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount.toBigDecimal();
+    }
+
+    public List<OrderLineItemSummary> getOrderLineItems() {
+        return orderLineItems;
+    }
+}
@@ -0,0 +1,34 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public class OrderTableBill {
+    private final UUID orderTableId;
+    private final List<OrderTableBillLine> lines;
+    private final Money totalAmount;
+
+    public OrderTableBill(final UUID orderTableId, final List<OrderTableBillLine> lines) {
+        this.orderTableId = orderTableId;
+        this.lines = Collections.unmodifiableList(lines);
+        Money sum = Money.ZERO;
+        for (final OrderTableBillLine line : lines) {
+            sum = sum.plus(line.amount());
+        }
+        this.totalAmount = sum;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public List<OrderTableBillLine> getLines() {
+        return lines;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount.toBigDecimal();
+    }
+}
@@ -0,0 +1,44 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class OrderTableBillLine {
+    private final UUID menuId;
+    private final String menuName;
+    private final Money price;
+    private final long quantity;
+    private final Money amount;
+
+    public OrderTableBillLine(final UUID menuId, final String menuName, final long priceAmount, final long quantity) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.price = Money.ofMinor(priceAmount);
+        this.quantity = quantity;
+        this.amount = price.times(quantity);
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public BigDecimal getPrice() {
+        return price.toBigDecimal();
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    Money amount() {
+        return amount;
+    }
+}
@@ -10,6 +10,8 @@ public interface OrderTableRepository {
 
     Optional<OrderTable> findById(UUID id);
 
+    boolean existsById(UUID id);
+
     List<OrderTable> findAll();
 
 }
@@ -0,0 +1,61 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class PendingDelivery {
+    private final UUID orderId;
+    private final String addressKey;
+    private final String deliveryAddress;
+    private final BigDecimal amount;
+    private final int attempts;
+    private final LocalDateTime dueAt;
+    private final LocalDateTime createdAt;
+
+    public PendingDelivery(
+        final UUID orderId,
+        final String addressKey,
+        final String deliveryAddress,
+        final BigDecimal amount,
+        final int attempts,
+        final LocalDateTime dueAt,
+        final LocalDateTime createdAt
+    ) {
+        this.orderId = orderId;
+        this.addressKey = addressKey;
+        this.deliveryAddress = deliveryAddress;
+        this.amount = amount;
+        this.attempts = attempts;
+        this.dueAt = dueAt;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getAddressKey() {
+        return addressKey;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,20 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PendingDeliveryRepository {
+
+    PendingDelivery save(PendingDelivery pendingDelivery);
+
+    List<PendingDelivery> findAllDispatchable(LocalDateTime now, int batchSize);
+
+    int deleteAllByOrderIdIn(List<UUID> orderIds);
+
+    int retryAllByOrderIdIn(List<UUID> orderIds, LocalDateTime dueAt);
+
+    int postponeAllByOrderIdIn(List<UUID> orderIds, LocalDateTime dueAt);
+
+    int failAllByOrderIdIn(List<UUID> orderIds, LocalDateTime failedAt);
+}
@@ -1,5 +1,9 @@
 package kitchenpos.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -9,6 +13,7 @@ import java.util.UUID;
 
 @Table(name = "product")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 public class Product {
     @Column(name = "id", columnDefinition = "varbinary(16)")
     @Id
@@ -18,7 +23,7 @@ public class Product {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
 
     public Product() {
     }
@@ -40,10 +45,18 @@ public class Product {
     }
 
     public BigDecimal getPrice() {
-        return price;
+        if (price == null) {
+            return null;
+        }
+        return price.toBigDecimal();
     }
 
     public void setPrice(final BigDecimal price) {
-        this.price = price;
+        this.price = Money.of(price);
+    }
+
+    @JsonIgnore
+    public Money getPriceMoney() {
+        return price;
     }
 }
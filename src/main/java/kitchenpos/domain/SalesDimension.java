@@ -0,0 +1,6 @@
+package kitchenpos.domain;
+
+public enum SalesDimension {
+    MENU,
+    MENU_GROUP
+}
@@ -0,0 +1,61 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class SalesRollup {
+    private final LocalDateTime bucketHour;
+    private final SalesDimension dimension;
+    private final UUID dimensionId;
+    private final long quantity;
+    private final Money amount;
+
+    public SalesRollup(
+        final LocalDateTime bucketHour,
+        final SalesDimension dimension,
+        final UUID dimensionId,
+        final long quantity,
+        final Money amount
+    ) {
+        this.bucketHour = bucketHour;
+        this.dimension = dimension;
+        this.dimensionId = dimensionId;
+        this.quantity = quantity;
+        this.amount = amount;
+    }
+
+    public SalesRollup plus(final SalesRollup other) {
+        return new SalesRollup(
+            bucketHour,
+            dimension,
+            dimensionId,
+            Math.addExact(quantity, other.quantity),
+            amount.plus(other.amount)
+        );
+    }
+
+    public LocalDateTime getBucketHour() {
+        return bucketHour;
+    }
+
+    public SalesDimension getDimension() {
+        return dimension;
+    }
+
+    public UUID getDimensionId() {
+        return dimensionId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    Money amount() {
+        return amount;
+    }
+}
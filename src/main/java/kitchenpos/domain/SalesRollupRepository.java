@@ -0,0 +1,12 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SalesRollupRepository {
+
+    void addAll(Collection<SalesRollup> rollups);
+
+    List<SalesRollup> findAllByBucketHourBetween(LocalDateTime from, LocalDateTime to);
+}
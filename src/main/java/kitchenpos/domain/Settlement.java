@@ -0,0 +1,60 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+public class Settlement {
+    private final LocalDate businessDate;
+    private final long orderCount;
+    private final long quantity;
+    private final Money amount;
+    private final LocalDateTime settledAt;
+    private final List<SettlementLine> lines;
+
+    public Settlement(
+        final LocalDate businessDate,
+        final long orderCount,
+        final long quantity,
+        final Money amount,
+        final LocalDateTime settledAt,
+        final List<SettlementLine> lines
+    ) {
+        this.businessDate = businessDate;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.amount = amount;
+        this.settledAt = settledAt;
+        this.lines = Collections.unmodifiableList(lines);
+    }
+
+    public LocalDate getBusinessDate() {
+        return businessDate;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    public LocalDateTime getSettledAt() {
+        return settledAt;
+    }
+
+    public List<SettlementLine> getLines() {
+        return lines;
+    }
+
+    Money amount() {
+        return amount;
+    }
+}
@@ -0,0 +1,80 @@
+package kitchenpos.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+public class SettlementAccumulator {
+    private static final Comparator<SettlementLine> LINE_ORDER = Comparator.comparing(SettlementLine::getDimension)
+        .thenComparing(SettlementLine::amount, Comparator.reverseOrder())
+        .thenComparing(SettlementLine::getDimensionKey);
+
+    private final Totals total = new Totals();
+    private final Map<OrderType, Totals> orderTypes = new EnumMap<>(OrderType.class);
+    private final Map<UUID, Totals> menus = new HashMap<>();
+    private final Map<UUID, Totals> orderTables = new HashMap<>();
+
+    public void add(final OrderHistoryRow row, final boolean firstLineOfOrder) {
+        final long orders = firstLineOfOrder ? 1L : 0L;
+        final long quantity = row.getQuantity();
+        final long amount = Math.multiplyExact(row.getPriceAmount(), quantity);
+        total.add(orders, quantity, amount);
+        orderTypes.computeIfAbsent(row.getType(), key -> new Totals()).add(orders, quantity, amount);
+        menus.computeIfAbsent(row.getMenuId(), key -> new Totals()).add(1L, quantity, amount);
+        if (Objects.nonNull(row.getOrderTableId())) {
+            orderTables.computeIfAbsent(row.getOrderTableId(), key -> new Totals()).add(orders, quantity, amount);
+        }
+    }
+
+    public SettlementAccumulator merge(final SettlementAccumulator other) {
+        total.merge(other.total);
+        other.orderTypes.forEach((key, totals) -> orderTypes.merge(key, totals, Totals::merge));
+        other.menus.forEach((key, totals) -> menus.merge(key, totals, Totals::merge));
+        other.orderTables.forEach((key, totals) -> orderTables.merge(key, totals, Totals::merge));
+        return this;
+    }
+
+    public Settlement toSettlement(final LocalDate businessDate, final LocalDateTime settledAt) {
+        final List<SettlementLine> lines = new ArrayList<>();
+        orderTypes.forEach((key, totals) -> lines.add(totals.toLine(SettlementDimension.ORDER_TYPE, key.name())));
+        menus.forEach((key, totals) -> lines.add(totals.toLine(SettlementDimension.MENU, key.toString())));
+        orderTables.forEach((key, totals) -> lines.add(totals.toLine(SettlementDimension.ORDER_TABLE, key.toString())));
+        lines.sort(LINE_ORDER);
+        return new Settlement(
+            businessDate,
+            total.orderCount,
+            total.quantity,
+            Money.ofMinor(total.amount),
+            settledAt,
+            lines
+        );
+    }
+
+    private static class Totals {
+        private long orderCount;
+        private long quantity;
+        private long amount;
+
+        private void add(final long orderCount, final long quantity, final long amount) {
+            this.orderCount += orderCount;
+            this.quantity = Math.addExact(this.quantity, quantity);
+            this.amount = Math.addExact(this.amount, amount);
+        }
+
+        private Totals merge(final Totals other) {
+            add(other.orderCount, other.quantity, other.amount);
+            return this;
+        }
+
+        private SettlementLine toLine(final SettlementDimension dimension, final String dimensionKey) {
+            return new SettlementLine(dimension, dimensionKey, orderCount, quantity, Money.ofMinor(amount));
+        }
+    }
+}
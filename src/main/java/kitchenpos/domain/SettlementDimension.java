@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+public enum SettlementDimension {
+    ORDER_TYPE,
+    MENU,
+    ORDER_TABLE
+}
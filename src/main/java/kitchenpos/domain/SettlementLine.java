@@ -0,0 +1,49 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+
+public class SettlementLine {
+    private final SettlementDimension dimension;
+    private final String dimensionKey;
+    private final long orderCount;
+    private final long quantity;
+    private final Money amount;
+
+    public SettlementLine(
+        final SettlementDimension dimension,
+        final String dimensionKey,
+        final long orderCount,
+        final long quantity,
+        final Money amount
+    ) {
+        this.dimension = dimension;
+        this.dimensionKey = dimensionKey;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.amount = amount;
+    }
+
+    public SettlementDimension getDimension() {
+        return dimension;
+    }
+
+    public String getDimensionKey() {
+        return dimensionKey;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    Money amount() {
+        return amount;
+    }
+}
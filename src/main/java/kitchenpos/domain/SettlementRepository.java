@@ -0,0 +1,11 @@
+package kitchenpos.domain;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface SettlementRepository {
+
+    Settlement save(Settlement settlement);
+
+    Optional<Settlement> findByBusinessDate(LocalDate businessDate);
+}
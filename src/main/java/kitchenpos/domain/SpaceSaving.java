@@ -0,0 +1,139 @@
+package kitchenpos.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SpaceSaving<K> {
+    private final int capacity;
+    private final Map<K, Counter<K>> counters;
+    private final Counter<K>[] heap;
+    private int size;
+
+    public SpaceSaving(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final Counter<K>[] heap = new Counter[capacity];
+        this.heap = heap;
+    }
+
+    public K add(final K key, final long weight) {
+        if (weight <= 0L) {
+            throw new IllegalArgumentException();
+        }
+        final Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            counter.count = Math.addExact(counter.count, weight);
+            siftDown(counter.index);
+            return null;
+        }
+        if (size < capacity) {
+            final Counter<K> added = new Counter<>(key, weight, 0L);
+            added.index = size;
+            heap[size++] = added;
+            counters.put(key, added);
+            siftUp(added.index);
+            return null;
+        }
+        final Counter<K> replaced = heap[0];
+        final K evicted = replaced.key;
+        counters.remove(evicted);
+        replaced.key = key;
+        replaced.error = replaced.count;
+        replaced.count = Math.addExact(replaced.count, weight);
+        counters.put(key, replaced);
+        siftDown(0);
+        return evicted;
+    }
+
+    public boolean contains(final K key) {
+        return counters.containsKey(key);
+    }
+
+    public long getMinCount() {
+        return size < capacity ? 0L : heap[0].count;
+    }
+
+    public List<Counter<K>> getCounters() {
+        final List<Counter<K>> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new Counter<>(heap[i].key, heap[i].count, heap[i].error));
+        }
+        result.sort(Comparator.comparingLong(Counter<K>::getCount).reversed());
+        return result;
+    }
+
+    public void clear() {
+        counters.clear();
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            final int parent = (index - 1) / 2;
+            if (heap[parent].count <= heap[index].count) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            final int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            final int right = left + 1;
+            final int smaller = right < size && heap[right].count < heap[left].count ? right : left;
+            if (heap[index].count <= heap[smaller].count) {
+                return;
+            }
+            swap(index, smaller);
+            index = smaller;
+        }
+    }
+
+    private void swap(final int i, final int j) {
+        final Counter<K> counter = heap[i];
+        heap[i] = heap[j];
+        heap[j] = counter;
+        heap[i].index = i;
+        heap[j].index = j;
+    }
+
+    public static class Counter<K> {
+        private K key;
+        private long count;
+        private long error;
+        private int index;
+
+        private Counter(final K key, final long count, final long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package kitchenpos.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+public class TimingWheel<K> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final Slot<K>[][] wheels;
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private long currentTick;
+
+    public TimingWheel(final long tickMillis, final int levels, final long startMillis) {
+        if (tickMillis <= 0L || levels <= 0 || levels * SLOT_BITS >= Long.SIZE - 1) {
+            throw new IllegalArgumentException();
+        }
+        this.tickMillis = tickMillis;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final Slot<K>[][] wheels = new Slot[levels][SLOTS];
+        this.wheels = wheels;
+        for (final Slot<K>[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheel[i] = new Slot<>();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    public void schedule(final K key, final long deadlineMillis) {
+        cancel(key);
+        final long deadlineTick = Math.max(ceilTick(deadlineMillis), currentTick + 1);
+        if (deadlineTick - currentTick >= 1L << (SLOT_BITS * wheels.length)) {
+            throw new IllegalArgumentException();
+        }
+        final Timer<K> timer = new Timer<>(key, deadlineMillis, deadlineTick);
+        timers.put(key, timer);
+        place(timer, currentTick);
+    }
+
+    public boolean cancel(final K key) {
+        final Timer<K> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        timer.slot.unlink(timer);
+        return true;
+    }
+
+    public void advance(final long nowMillis, final BiConsumer<K, Long> expired) {
+        final long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        final List<Timer<K>> fired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            if (timers.isEmpty()) {
+                currentTick = targetTick;
+                break;
+            }
+            final long tick = currentTick + 1;
+            for (int level = wheels.length - 1; level > 0; level--) {
+                if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0L) {
+                    cascade(wheels[level][slotIndex(tick, level)], tick);
+                }
+            }
+            currentTick = tick;
+            final Slot<K> slot = wheels[0][slotIndex(tick, 0)];
+            Timer<K> timer = slot.head;
+            while (timer != null) {
+                final Timer<K> next = timer.next;
+                slot.unlink(timer);
+                timers.remove(timer.key);
+                fired.add(timer);
+                timer = next;
+            }
+        }
+        for (final Timer<K> timer : fired) {
+            expired.accept(timer.key, timer.deadlineMillis);
+        }
+    }
+
+    public boolean contains(final K key) {
+        return timers.containsKey(key);
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    private void cascade(final Slot<K> slot, final long tick) {
+        Timer<K> timer = slot.head;
+        while (timer != null) {
+            final Timer<K> next = timer.next;
+            slot.unlink(timer);
+            place(timer, tick);
+            timer = next;
+        }
+    }
+
+    private void place(final Timer<K> timer, final long referenceTick) {
+        final long delta = timer.deadlineTick - referenceTick;
+        int level = 0;
+        while (level < wheels.length - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        wheels[level][slotIndex(timer.deadlineTick, level)].link(timer);
+    }
+
+    private long ceilTick(final long millis) {
+        return -Math.floorDiv(-millis, tickMillis);
+    }
+
+    private static int slotIndex(final long tick, final int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & MASK);
+    }
+
+    private static class Slot<K> {
+        private Timer<K> head;
+
+        private void link(final Timer<K> timer) {
+            timer.slot = this;
+            timer.prev = null;
+            timer.next = head;
+            if (head != null) {
+                head.prev = timer;
+            }
+            head = timer;
+        }
+
+        private void unlink(final Timer<K> timer) {
+            if (timer.prev != null) {
+                timer.prev.next = timer.next;
+            } else {
+                head = timer.next;
+            }
+            if (timer.next != null) {
+                timer.next.prev = timer.prev;
+            }
+            timer.slot = null;
+            timer.prev = null;
+            timer.next = null;
+        }
+    }
+
+    private static class Timer<K> {
+        private final K key;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Slot<K> slot;
+        private Timer<K> prev;
+        private Timer<K> next;
+
+        private Timer(final K key, final long deadlineMillis, final long deadlineTick) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.domain;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+final class Uuids {
+
+    private Uuids() {
+    }
+
+    static UUID fromBytes(final byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    static byte[] toBytes(final UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,151 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class ClientResilience implements AutoCloseable {
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final ExecutorService executor;
+    private final long timeoutNanos;
+    private final MeterRegistry meterRegistry;
+
+    public ClientResilience(
+        final String name,
+        final CircuitBreaker circuitBreaker,
+        final int maxConcurrentCalls,
+        final Duration timeout,
+        final MeterRegistry meterRegistry
+    ) {
+        if (maxConcurrentCalls <= 0 || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException();
+        }
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.executor = newExecutor(name, maxConcurrentCalls);
+        this.timeoutNanos = timeout.toNanos();
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("kitchenpos.client.circuit.state", Tags.of("client", name), circuitBreaker,
+            breaker -> breaker.getState().ordinal());
+    }
+
+    public <T> T execute(final Callable<T> call, final Supplier<T> fallback) {
+        return execute(call, fallback, fallback);
+    }
+
+    public <T> T execute(final Callable<T> call, final Supplier<T> fallback, final Supplier<T> rejected) {
+        if (!bulkhead.tryAcquire()) {
+            return reject("bulkhead_full", rejected);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            return reject("circuit_open", rejected);
+        }
+        final long startedAt = System.nanoTime();
+        final AtomicBoolean claimed = new AtomicBoolean();
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return call.call();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            return complete("failure", startedAt, fallback);
+        }
+        try {
+            final T result = future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            record("success", startedAt);
+            return result;
+        } catch (final TimeoutException e) {
+            cancel(future, claimed);
+            circuitBreaker.onFailure();
+            return complete("timeout", startedAt, fallback);
+        } catch (final ExecutionException e) {
+            circuitBreaker.onFailure();
+            return complete("failure", startedAt, fallback);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(future, claimed);
+            circuitBreaker.onFailure();
+            return complete("interrupted", startedAt, fallback);
+        }
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void cancel(final Future<?> future, final AtomicBoolean claimed) {
+        future.cancel(true);
+        if (claimed.compareAndSet(false, true)) {
+            bulkhead.release();
+        }
+    }
+
+    private <T> T reject(final String reason, final Supplier<T> fallback) {
+        meterRegistry.counter("kitchenpos.client.rejections", "client", name, "reason", reason).increment();
+        return fallback.get();
+    }
+
+    private <T> T complete(final String outcome, final long startedAt, final Supplier<T> fallback) {
+        record(outcome, startedAt);
+        return fallback.get();
+    }
+
+    private void record(final String outcome, final long startedAt) {
+        Timer.builder("kitchenpos.client.calls")
+            .tag("client", name)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static ExecutorService newExecutor(final String name, final int threads) {
+        final AtomicInteger sequence = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                final Thread thread = new Thread(runnable, name + "-client-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Locale;
+
+@Configuration
+public class ClientResilienceConfiguration {
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    public ClientResilienceConfiguration(final Environment environment, final MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Primary
+    @Bean
+    public ResilientPurgomalumClient resilientPurgomalumClient(final DefaultPurgomalumClient purgomalumClient) {
+        return new ResilientPurgomalumClient(
+            purgomalumClient,
+            resilience("purgomalum"),
+            fallback("purgomalum", ResilientPurgomalumClient.Fallback.class)
+        );
+    }
+
+    @Primary
+    @Bean
+    public ResilientKitchenridersClient resilientKitchenridersClient(final DefaultKitchenridersClient kitchenridersClient) {
+        return new ResilientKitchenridersClient(
+            kitchenridersClient,
+            resilience("kitchenriders"),
+            fallback("kitchenriders", ResilientKitchenridersClient.Fallback.class),
+            meterRegistry
+        );
+    }
+
+    private ClientResilience resilience(final String client) {
+        final CircuitBreaker circuitBreaker = new CircuitBreaker(
+            property(client, "sliding-window-size", Integer.class),
+            property(client, "minimum-calls", Integer.class),
+            property(client, "failure-rate-threshold", Integer.class),
+            Duration.ofMillis(property(client, "open-duration", Long.class))
+        );
+        return new ClientResilience(
+            client,
+            circuitBreaker,
+            property(client, "max-concurrent-calls", Integer.class),
+            Duration.ofMillis(property(client, "timeout", Long.class)),
+            meterRegistry
+        );
+    }
+
+    private <E extends Enum<E>> E fallback(final String client, final Class<E> type) {
+        return Enum.valueOf(type, property(client, "fallback", String.class).toUpperCase(Locale.ROOT));
+    }
+
+    private <T> T property(final String client, final String key, final Class<T> type) {
+        return environment.getRequiredProperty("kitchenpos.resilience." + client + "." + key, type);
+    }
+}
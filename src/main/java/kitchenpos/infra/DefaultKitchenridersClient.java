@@ -0,0 +1,12 @@
+package kitchenpos.infra;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class DefaultKitchenridersClient implements KitchenridersClient {
+    @Override
+    public void requestDeliveries(final List<DeliveryRequest> deliveryRequests) {
+    }
+}
@@ -1,20 +1,29 @@
 package kitchenpos.infra;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Component
 public class DefaultPurgomalumClient implements PurgomalumClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
-    public DefaultPurgomalumClient(final RestTemplateBuilder restTemplateBuilder, final ObjectMapper objectMapper) {
-        this.restTemplate = restTemplateBuilder.build();
+    public DefaultPurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.resilience.purgomalum.timeout}") final long timeoutMillis
+    ) {
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(Duration.ofMillis(timeoutMillis))
+            .setReadTimeout(Duration.ofMillis(timeoutMillis))
+            .build();
         this.objectMapper = objectMapper;
     }
 
@@ -0,0 +1,28 @@
+package kitchenpos.infra;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class DeliveryRequest {
+    private final UUID orderId;
+    private final BigDecimal amount;
+    private final String deliveryAddress;
+
+    public DeliveryRequest(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        this.orderId = orderId;
+        this.amount = amount;
+        this.deliveryAddress = deliveryAddress;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+}
@@ -1,12 +1,7 @@
 package kitchenpos.infra;
 
-import org.springframework.stereotype.Component;
+import java.util.List;
 
-import java.math.BigDecimal;
-import java.util.UUID;
-
-@Component
-public class KitchenridersClient {
-    public void requestDelivery(UUID orderId, BigDecimal amount, String deliveryAddress) {
-    }
+public interface KitchenridersClient {
+    void requestDeliveries(List<DeliveryRequest> deliveryRequests);
 }
@@ -0,0 +1,83 @@
+package kitchenpos.infra;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String COOKIE_NAME = "kitchenpos-read-after";
+    private static final Set<String> WRITE_METHODS = new HashSet<>(Arrays.asList("POST", "PUT", "PATCH", "DELETE"));
+    private static final ThreadLocal<Long> READ_AFTER = new ThreadLocal<>();
+
+    private final int windowSeconds;
+    private final LongSupplier clock;
+
+    public ReadYourWritesFilter(final long windowMillis) {
+        this(windowMillis, System::currentTimeMillis);
+    }
+
+    ReadYourWritesFilter(final long windowMillis, final LongSupplier clock) {
+        if (windowMillis <= 0L) {
+            throw new IllegalArgumentException();
+        }
+        this.windowSeconds = (int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(windowMillis));
+        this.clock = clock;
+    }
+
+    static Long currentReadAfter() {
+        return READ_AFTER.get();
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            final ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < HttpServletResponse.SC_BAD_REQUEST) {
+                final Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(clock.getAsLong()));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge(windowSeconds);
+                wrapper.addCookie(cookie);
+            }
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        final Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (Objects.isNull(cookie)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        READ_AFTER.set(parse(cookie.getValue()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            READ_AFTER.remove();
+        }
+    }
+
+    private Long parse(final String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            return clock.getAsLong();
+        }
+    }
+}
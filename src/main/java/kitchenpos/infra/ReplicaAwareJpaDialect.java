@@ -0,0 +1,22 @@
+package kitchenpos.infra;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object beginTransaction(final EntityManager entityManager, final TransactionDefinition definition)
+        throws SQLException {
+        final Object transactionData = super.beginTransaction(entityManager, definition);
+        entityManager.unwrap(Session.class)
+            .setCacheMode(definition.isReadOnly() ? CacheMode.GET : CacheMode.NORMAL);
+        return transactionData;
+    }
+}
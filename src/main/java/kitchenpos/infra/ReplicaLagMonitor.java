@@ -0,0 +1,129 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class ReplicaLagMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String UPDATE_HEARTBEAT = "update replica_heartbeat set beat_at = ? where node_id = ?";
+    private static final String INSERT_HEARTBEAT = "insert into replica_heartbeat (node_id, beat_at) values (?, ?)";
+    private static final String SELECT_HEARTBEAT = "select beat_at from replica_heartbeat where node_id = ?";
+    private static final long UNKNOWN = -1L;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long heartbeatMillis;
+    private final long maxLagMillis;
+    private final LongSupplier clock;
+    private final byte[] nodeId;
+    private volatile long replicatedUpTo = UNKNOWN;
+    private ScheduledExecutorService heartbeat;
+
+    public ReplicaLagMonitor(
+        final DataSource primary,
+        final DataSource replica,
+        final long heartbeatMillis,
+        final long maxLagMillis,
+        final MeterRegistry meterRegistry
+    ) {
+        this(primary, replica, heartbeatMillis, maxLagMillis, meterRegistry, System::currentTimeMillis);
+    }
+
+    ReplicaLagMonitor(
+        final DataSource primary,
+        final DataSource replica,
+        final long heartbeatMillis,
+        final long maxLagMillis,
+        final MeterRegistry meterRegistry,
+        final LongSupplier clock
+    ) {
+        if (heartbeatMillis <= 0L || maxLagMillis <= 0L) {
+            throw new IllegalArgumentException();
+        }
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.heartbeatMillis = heartbeatMillis;
+        this.maxLagMillis = maxLagMillis;
+        this.clock = clock;
+        this.nodeId = toBytes(UUID.randomUUID());
+        meterRegistry.gauge("kitchenpos.datasource.replica.lag", this, ReplicaLagMonitor::getLagMillis);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (heartbeat != null) {
+            return;
+        }
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "replica-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::beat, 0L, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+    }
+
+    public void beat() {
+        final long now = clock.getAsLong();
+        try {
+            if (primary.update(UPDATE_HEARTBEAT, now, nodeId) == 0) {
+                primary.update(INSERT_HEARTBEAT, nodeId, now);
+            }
+        } catch (final DataAccessException e) {
+            log.warn("Failed to write the replica heartbeat", e);
+        }
+        try {
+            final List<Long> beats = replica.queryForList(SELECT_HEARTBEAT, Long.class, (Object) nodeId);
+            if (!beats.isEmpty() && Objects.nonNull(beats.get(0))) {
+                replicatedUpTo = Math.max(replicatedUpTo, beats.get(0));
+            }
+        } catch (final DataAccessException e) {
+            log.warn("Failed to read the replica heartbeat", e);
+            replicatedUpTo = UNKNOWN;
+        }
+    }
+
+    public boolean isReadable(final Long readAfter) {
+        final long upTo = replicatedUpTo;
+        if (upTo == UNKNOWN || clock.getAsLong() - upTo > maxLagMillis) {
+            return false;
+        }
+        return Objects.isNull(readAfter) || upTo >= readAfter;
+    }
+
+    public long getLagMillis() {
+        final long upTo = replicatedUpTo;
+        if (upTo == UNKNOWN) {
+            return UNKNOWN;
+        }
+        return clock.getAsLong() - upTo;
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
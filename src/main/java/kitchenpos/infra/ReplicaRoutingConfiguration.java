@@ -0,0 +1,100 @@
+package kitchenpos.infra;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "kitchenpos.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+        @Value("${kitchenpos.datasource.replica.url}") final String url,
+        @Value("${kitchenpos.datasource.replica.username}") final String username,
+        @Value("${kitchenpos.datasource.replica.password}") final String password,
+        @Value("${kitchenpos.datasource.replica.maximum-pool-size}") final int maximumPoolSize
+    ) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        @Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+        @Qualifier("replicaDataSource") final HikariDataSource replicaDataSource,
+        @Value("${kitchenpos.datasource.replica.heartbeat}") final long heartbeatMillis,
+        @Value("${kitchenpos.datasource.replica.max-lag}") final long maxLagMillis,
+        final MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, heartbeatMillis, maxLagMillis, meterRegistry);
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+        @Qualifier("replicaDataSource") final HikariDataSource replicaDataSource,
+        final ReplicaLagMonitor replicaLagMonitor,
+        final MeterRegistry meterRegistry
+    ) {
+        return new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry)
+        );
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+        @Value("${kitchenpos.datasource.replica.read-your-writes-window}") final long windowMillis
+    ) {
+        return new ReadYourWritesFilter(windowMillis);
+    }
+
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(final JpaProperties jpaProperties) {
+        final HibernateJpaDialect jpaDialect = new ReplicaAwareJpaDialect();
+        final HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return jpaDialect;
+            }
+        };
+        adapter.setShowSql(jpaProperties.isShowSql());
+        if (jpaProperties.getDatabase() != null) {
+            adapter.setDatabase(jpaProperties.getDatabase());
+        }
+        if (jpaProperties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(jpaProperties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(jpaProperties.isGenerateDdl());
+        return adapter;
+    }
+}
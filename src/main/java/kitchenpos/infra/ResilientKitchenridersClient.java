@@ -0,0 +1,66 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+public class ResilientKitchenridersClient implements KitchenridersClient, AutoCloseable {
+    public enum Fallback {
+        RETRY, DROP
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientKitchenridersClient.class);
+
+    private final KitchenridersClient delegate;
+    private final ClientResilience resilience;
+    private final Fallback fallback;
+    private final Counter dropped;
+
+    public ResilientKitchenridersClient(
+        final KitchenridersClient delegate,
+        final ClientResilience resilience,
+        final Fallback fallback,
+        final MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.resilience = resilience;
+        this.fallback = fallback;
+        this.dropped = meterRegistry.counter("kitchenpos.deliveries.dropped");
+    }
+
+    @Override
+    public void requestDeliveries(final List<DeliveryRequest> deliveryRequests) {
+        resilience.execute(() -> {
+            delegate.requestDeliveries(deliveryRequests);
+            return null;
+        }, () -> fallback(deliveryRequests), () -> rejected(deliveryRequests));
+    }
+
+    @Override
+    public void close() {
+        resilience.close();
+    }
+
+    private Void rejected(final List<DeliveryRequest> deliveryRequests) {
+        if (fallback == Fallback.RETRY) {
+            throw new RejectedExecutionException();
+        }
+        return fallback(deliveryRequests);
+    }
+
+    private Void fallback(final List<DeliveryRequest> deliveryRequests) {
+        if (fallback == Fallback.RETRY) {
+            throw new IllegalStateException();
+        }
+        for (final DeliveryRequest deliveryRequest : deliveryRequests) {
+            log.error("Dropping delivery request for order {} ({}, {})",
+                deliveryRequest.getOrderId(), deliveryRequest.getAmount(), deliveryRequest.getDeliveryAddress());
+            dropped.increment();
+        }
+        return null;
+    }
+}
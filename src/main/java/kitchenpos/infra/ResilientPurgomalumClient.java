@@ -0,0 +1,31 @@
+package kitchenpos.infra;
+
+public class ResilientPurgomalumClient implements PurgomalumClient, AutoCloseable {
+    public enum Fallback {
+        ALLOW, DENY
+    }
+
+    private final PurgomalumClient delegate;
+    private final ClientResilience resilience;
+    private final Fallback fallback;
+
+    public ResilientPurgomalumClient(
+        final PurgomalumClient delegate,
+        final ClientResilience resilience,
+        final Fallback fallback
+    ) {
+        this.delegate = delegate;
+        this.resilience = resilience;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        return resilience.execute(() -> delegate.containsProfanity(text), () -> fallback == Fallback.DENY);
+    }
+
+    @Override
+    public void close() {
+        resilience.close();
+    }
+}
@@ -0,0 +1,61 @@
+package kitchenpos.infra;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class SecondLevelCacheConfiguration {
+    private static final List<String> REGIONS = Arrays.asList(
+        "menu",
+        "menu-products",
+        "menu-product",
+        "menu-group",
+        "product",
+        "default-query-results-region"
+    );
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+        @Value("${kitchenpos.second-level-cache.maximum-size}") final long maximumSize,
+        @Value("${kitchenpos.second-level-cache.expire-after-write}") final long expireAfterWriteMillis
+    ) {
+        final CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (final String region : REGIONS) {
+            final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(expireAfterWriteMillis)));
+            configuration.setStatisticsEnabled(true);
+            create(cacheManager, region, configuration);
+        }
+        final CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        create(cacheManager, UPDATE_TIMESTAMPS_REGION, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final CacheManager hibernateCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+
+    private static void create(
+        final CacheManager cacheManager,
+        final String region,
+        final CaffeineConfiguration<Object, Object> configuration
+    ) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.KitchenTicketService;
+import kitchenpos.application.KitchenWorkloadService;
+import kitchenpos.application.OrderSlaService;
+import kitchenpos.domain.KitchenTicket;
+import kitchenpos.domain.KitchenWorkload;
+import kitchenpos.domain.OrderSlaBreach;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequestMapping("/api/kitchen")
+@RestController
+public class KitchenRestController {
+    private final KitchenWorkloadService kitchenWorkloadService;
+    private final OrderSlaService orderSlaService;
+    private final KitchenTicketService kitchenTicketService;
+
+    public KitchenRestController(
+        final KitchenWorkloadService kitchenWorkloadService,
+        final OrderSlaService orderSlaService,
+        final KitchenTicketService kitchenTicketService
+    ) {
+        this.kitchenWorkloadService = kitchenWorkloadService;
+        this.orderSlaService = orderSlaService;
+        this.kitchenTicketService = kitchenTicketService;
+    }
+
+    @GetMapping("/workload")
+    public ResponseEntity<KitchenWorkload> workload() {
+        return ResponseEntity.ok(kitchenWorkloadService.getWorkload());
+    }
+
+    @GetMapping("/overdue-orders")
+    public ResponseEntity<List<OrderSlaBreach>> overdueOrders() {
+        return ResponseEntity.ok(orderSlaService.findAllBreaches());
+    }
+
+    @GetMapping("/stations/{station}/tickets")
+    public ResponseEntity<List<KitchenTicket>> findTickets(@PathVariable final String station) {
+        return ResponseEntity.ok(kitchenTicketService.findAll(station));
+    }
+
+    @PostMapping("/stations/{station}/tickets/next")
+    public ResponseEntity<KitchenTicket> nextTicket(@PathVariable final String station) {
+        return kitchenTicketService.next(station)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
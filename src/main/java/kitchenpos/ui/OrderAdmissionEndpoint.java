@@ -0,0 +1,24 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderAdmissionService;
+import kitchenpos.domain.OrderAdmissionState;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "admission")
+public class OrderAdmissionEndpoint {
+    private final OrderAdmissionService orderAdmissionService;
+
+    public OrderAdmissionEndpoint(final OrderAdmissionService orderAdmissionService) {
+        this.orderAdmissionService = orderAdmissionService;
+    }
+
+    @ReadOperation
+    public List<OrderAdmissionState> admission() {
+        return orderAdmissionService.findAllStates();
+    }
+}
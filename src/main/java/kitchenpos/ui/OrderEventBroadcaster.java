@@ -0,0 +1,237 @@
+package kitchenpos.ui;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class OrderEventBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+    private static final String ORDER_CREATED = "order-created";
+    private static final String ORDER_STATUS_CHANGED = "order-status-changed";
+    private static final String RESYNC = "resync";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "order-events-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int bufferSize;
+    private final long timeout;
+    private final long sendTimeoutNanos;
+    private ScheduledExecutorService watchdog;
+
+    public OrderEventBroadcaster(
+        @Value("${kitchenpos.order-events.buffer-size}") final int bufferSize,
+        @Value("${kitchenpos.order-events.timeout}") final long timeout,
+        @Value("${kitchenpos.order-events.send-timeout}") final long sendTimeout
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeout);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (watchdog != null) {
+            return;
+        }
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "order-events-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long period = Math.max(1L, sendTimeoutNanos / 2);
+        watchdog.scheduleWithFixedDelay(() -> evictStalled(System.nanoTime()), period, period, TimeUnit.NANOSECONDS);
+    }
+
+    public SseEmitter subscribe() {
+        final SseEmitter emitter = new SseEmitter(timeout);
+        final Subscriber subscriber = register(emitter);
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (final IOException e) {
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(final OrderCreatedEvent event) {
+        broadcast(ORDER_CREATED, event.getOrder());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        broadcast(ORDER_STATUS_CHANGED, event.getOrder());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+        dispatcher.shutdownNow();
+        for (final Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter.complete();
+            } catch (final RuntimeException e) {
+                log.debug("Order event subscriber already closed", e);
+            }
+        }
+        subscribers.clear();
+    }
+
+    Subscriber register(final SseEmitter emitter) {
+        final Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        return subscriber;
+    }
+
+    void evictStalled(final long now) {
+        for (final Subscriber subscriber : subscribers) {
+            if (subscriber.isStalled(now)) {
+                log.warn("Evicting order event subscriber stalled for more than {} ms", TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                subscribers.remove(subscriber);
+                subscriber.evicted = true;
+            }
+        }
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void broadcast(final String name, final OrderSummary order) {
+        for (final Subscriber subscriber : subscribers) {
+            if (subscriber.offer(name, order)) {
+                dispatcher.execute(subscriber::drain);
+            }
+        }
+    }
+
+    private static class Message {
+        private final String name;
+        private final OrderSummary order;
+
+        private Message(final String name, final OrderSummary order) {
+            this.name = name;
+            this.order = order;
+        }
+    }
+
+    class Subscriber {
+        private final SseEmitter emitter;
+        private final Map<UUID, Message> pending = new LinkedHashMap<>();
+        private boolean scheduled;
+        private boolean overflowed;
+        private volatile boolean sending;
+        private volatile long sendStartedAt;
+        private volatile boolean evicted;
+
+        private Subscriber(final SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized boolean offer(final String name, final OrderSummary order) {
+            final Message previous = pending.get(order.getId());
+            if (previous != null) {
+                final OrderSummary merged = order.getOrderLineItems().isEmpty()
+                    ? order.withOrderLineItems(previous.order.getOrderLineItems())
+                    : order;
+                pending.put(order.getId(), new Message(previous.name, merged));
+            } else {
+                if (pending.size() >= bufferSize) {
+                    final Iterator<Message> oldest = pending.values().iterator();
+                    oldest.next();
+                    oldest.remove();
+                    overflowed = true;
+                }
+                pending.put(order.getId(), new Message(name, order));
+            }
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+
+        void drain() {
+            while (true) {
+                final boolean resync;
+                final Message message;
+                synchronized (this) {
+                    resync = overflowed;
+                    overflowed = false;
+                    final Iterator<Message> next = pending.values().iterator();
+                    message = next.hasNext() ? next.next() : null;
+                    if (message != null) {
+                        next.remove();
+                    }
+                    if (!resync && message == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+                try {
+                    if (resync) {
+                        send(SseEmitter.event().name(RESYNC).data(""));
+                    }
+                    if (message != null) {
+                        send(SseEmitter.event().name(message.name).data(message.order, MediaType.APPLICATION_JSON));
+                    }
+                } catch (final IOException | IllegalStateException e) {
+                    log.debug("Dropping order event subscriber", e);
+                    subscribers.remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+                if (evicted) {
+                    emitter.completeWithError(new TimeoutException());
+                    return;
+                }
+            }
+        }
+
+        private void send(final SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedAt = System.nanoTime();
+            sending = true;
+            try {
+                emitter.send(event);
+            } finally {
+                sending = false;
+            }
+        }
+
+        private boolean isStalled(final long now) {
+            return sending && now - sendStartedAt > sendTimeoutNanos;
+        }
+    }
+}
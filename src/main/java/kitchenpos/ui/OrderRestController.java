@@ -1,28 +1,81 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.OrderAdmissionService;
+import kitchenpos.application.OrderExportService;
+import kitchenpos.application.OrderIdempotencyService;
+import kitchenpos.application.OrderIngestionService;
+import kitchenpos.application.OrderPendingException;
+import kitchenpos.application.OrderRejectedException;
 import kitchenpos.application.OrderService;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSummary;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
     private final OrderService orderService;
+    private final OrderAdmissionService orderAdmissionService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderIngestionService orderIngestionService;
+    private final OrderExportService orderExportService;
+    private final OrderEventBroadcaster orderEventBroadcaster;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderAdmissionService orderAdmissionService,
+        final OrderIdempotencyService orderIdempotencyService,
+        final OrderIngestionService orderIngestionService,
+        final OrderExportService orderExportService,
+        final OrderEventBroadcaster orderEventBroadcaster
+    ) {
         this.orderService = orderService;
+        this.orderAdmissionService = orderAdmissionService;
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.orderIngestionService = orderIngestionService;
+        this.orderExportService = orderExportService;
+        this.orderEventBroadcaster = orderEventBroadcaster;
     }
 
     @PostMapping
-    public ResponseEntity<Order> create(@RequestBody final Order request) {
-        final Order response = orderService.create(request);
-        return ResponseEntity.created(URI.create("/api/orders/" + response.getId()))
-            .build();
+    public ResponseEntity<Order> create(
+        @RequestHeader(name = "Idempotency-Key", required = false) final String idempotencyKey,
+        @RequestBody final Order request
+    ) {
+        if (Objects.nonNull(idempotencyKey)) {
+            final Optional<UUID> replayed = orderIdempotencyService.findOrderId(idempotencyKey);
+            if (replayed.isPresent()) {
+                return ResponseEntity.created(URI.create("/api/orders/" + replayed.get()))
+                    .build();
+            }
+        }
+        final OrderAdmissionService.Admission admission = orderAdmissionService.admit(request.getType());
+        try {
+            if (Objects.isNull(idempotencyKey)) {
+                final Order response = orderIngestionService.create(request);
+                return ResponseEntity.created(URI.create("/api/orders/" + response.getId()))
+                    .build();
+            }
+            final UUID orderId = orderIdempotencyService.create(idempotencyKey, request);
+            return ResponseEntity.created(URI.create("/api/orders/" + orderId))
+                .build();
+        } finally {
+            admission.close();
+        }
     }
 
     @PutMapping("/{orderId}/accept")
@@ -51,7 +104,44 @@ public class OrderRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<OrderSummary>> findAll(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        if (Objects.isNull(from) && Objects.isNull(to)) {
+            return ResponseEntity.ok(orderService.findAllSummaries());
+        }
+        return ResponseEntity.ok(orderService.findAllSummaries(from, to));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        orderExportService.validateRange(from, to);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/gzip"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.csv.gz\"")
+            .body(outputStream -> orderExportService.exportCsv(from, to, outputStream));
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events() {
+        return orderEventBroadcaster.subscribe();
+    }
+
+    @ExceptionHandler(OrderPendingException.class)
+    public ResponseEntity<Void> handlePending(final OrderPendingException e) {
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/orders/" + e.getOrderId()))
+            .build();
+    }
+
+    @ExceptionHandler(OrderRejectedException.class)
+    public ResponseEntity<Void> handleRejected(final OrderRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .build();
     }
 }
@@ -2,6 +2,7 @@ package kitchenpos.ui;
 
 import kitchenpos.application.OrderTableService;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableBill;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -43,6 +44,11 @@ public class OrderTableRestController {
         return ResponseEntity.ok(orderTableService.changeNumberOfGuests(orderTableId, request));
     }
 
+    @GetMapping("/{orderTableId}/bill")
+    public ResponseEntity<OrderTableBill> bill(@PathVariable final UUID orderTableId) {
+        return ResponseEntity.ok(orderTableService.bill(orderTableId));
+    }
+
     @GetMapping
     public ResponseEntity<List<OrderTable>> findAll() {
         return ResponseEntity.ok(orderTableService.findAll());
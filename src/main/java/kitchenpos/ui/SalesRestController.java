@@ -0,0 +1,37 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.BestSellerService;
+import kitchenpos.application.SalesRollupService;
+import kitchenpos.domain.BestSeller;
+import kitchenpos.domain.SalesRollup;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequestMapping("/api/sales")
+@RestController
+public class SalesRestController {
+    private final SalesRollupService salesRollupService;
+    private final BestSellerService bestSellerService;
+
+    public SalesRestController(final SalesRollupService salesRollupService, final BestSellerService bestSellerService) {
+        this.salesRollupService = salesRollupService;
+        this.bestSellerService = bestSellerService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SalesRollup>> findAll(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok(salesRollupService.findAll(from, to));
+    }
+
+    @GetMapping("/best-sellers")
+    public ResponseEntity<List<BestSeller>> findBestSellers(@RequestParam(defaultValue = "10") final int size) {
+        return ResponseEntity.ok(bestSellerService.findAll(size));
+    }
+}
@@ -0,0 +1,33 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.SettlementService;
+import kitchenpos.domain.Settlement;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RequestMapping("/api/settlements")
+@RestController
+public class SettlementRestController {
+    private final SettlementService settlementService;
+
+    public SettlementRestController(final SettlementService settlementService) {
+        this.settlementService = settlementService;
+    }
+
+    @PostMapping("/{businessDate}")
+    public ResponseEntity<Settlement> settle(
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate businessDate
+    ) {
+        return ResponseEntity.ok(settlementService.settle(businessDate));
+    }
+
+    @GetMapping("/{businessDate}")
+    public ResponseEntity<Settlement> findByBusinessDate(
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate businessDate
+    ) {
+        return ResponseEntity.ok(settlementService.findByBusinessDate(businessDate));
+    }
+}
@@ -0,0 +1,6 @@
+create table replica_heartbeat
+(
+    node_id varbinary(16) not null,
+    beat_at bigint        not null,
+    primary key (node_id)
+) engine = InnoDB;
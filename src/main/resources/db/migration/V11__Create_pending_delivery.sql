@@ -0,0 +1,14 @@
+create table pending_delivery
+(
+    order_id         varbinary(16)  not null,
+    address_key      varchar(255)   not null,
+    delivery_address varchar(255)   not null,
+    amount           decimal(19, 2) not null,
+    attempts         integer        not null,
+    due_at           datetime(6)    not null,
+    created_at       datetime(6)    not null,
+    failed_at        datetime(6),
+    primary key (order_id)
+) engine = InnoDB;
+
+create index ix_pending_delivery_address_key on pending_delivery (address_key);
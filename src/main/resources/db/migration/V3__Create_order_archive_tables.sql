@@ -0,0 +1,26 @@
+create table archived_orders
+(
+    id               varbinary(16) not null,
+    delivery_address varchar(255),
+    order_date_time  datetime(6)   not null,
+    status           varchar(255)  not null,
+    type             varchar(255)  not null,
+    order_table_id   varbinary(16),
+    archived_at      datetime(6)   not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table archived_order_line_item
+(
+    seq      bigint        not null,
+    quantity bigint        not null,
+    menu_id  varbinary(16) not null,
+    order_id varbinary(16) not null,
+    primary key (seq)
+) engine = InnoDB;
+
+create index ix_orders_status_order_date_time on orders (status, order_date_time);
+
+create index ix_archived_orders_order_date_time on archived_orders (order_date_time);
+
+create index ix_archived_order_line_item_order_id on archived_order_line_item (order_id);
@@ -0,0 +1,3 @@
+create index ix_orders_order_date_time on orders (order_date_time);
+
+create index ix_orders_order_table_id_status on orders (order_table_id, status);
@@ -0,0 +1,27 @@
+alter table order_line_item
+    add column price_amount bigint not null default 0;
+
+alter table orders
+    add column total_amount bigint not null default 0;
+
+alter table archived_order_line_item
+    add column price_amount bigint not null default 0;
+
+alter table archived_orders
+    add column total_amount bigint not null default 0;
+
+update order_line_item li
+set li.price_amount = (select round(m.price * 100) from menu m where m.id = li.menu_id);
+
+update orders o
+set o.total_amount = coalesce((select sum(li.price_amount * li.quantity)
+                               from order_line_item li
+                               where li.order_id = o.id), 0);
+
+update archived_order_line_item li
+set li.price_amount = (select round(m.price * 100) from menu m where m.id = li.menu_id);
+
+update archived_orders o
+set o.total_amount = coalesce((select sum(li.price_amount * li.quantity)
+                               from archived_order_line_item li
+                               where li.order_id = o.id), 0);
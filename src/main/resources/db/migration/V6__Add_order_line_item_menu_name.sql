@@ -0,0 +1,17 @@
+alter table order_line_item
+    add column menu_name varchar(255);
+
+alter table archived_order_line_item
+    add column menu_name varchar(255);
+
+update order_line_item li
+set li.menu_name = (select m.name from menu m where m.id = li.menu_id);
+
+update archived_order_line_item li
+set li.menu_name = (select m.name from menu m where m.id = li.menu_id);
+
+alter table order_line_item
+    modify column menu_name varchar(255) not null;
+
+alter table archived_order_line_item
+    modify column menu_name varchar(255) not null;
@@ -0,0 +1,9 @@
+create table sales_rollup
+(
+    bucket_hour  datetime(6)   not null,
+    dimension    varchar(255)  not null,
+    dimension_id varbinary(16) not null,
+    quantity     bigint        not null,
+    amount       bigint        not null,
+    primary key (bucket_hour, dimension, dimension_id)
+) engine = InnoDB;
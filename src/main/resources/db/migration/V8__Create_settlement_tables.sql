@@ -0,0 +1,20 @@
+create table settlement
+(
+    business_date date        not null,
+    order_count   bigint      not null,
+    quantity      bigint      not null,
+    amount        bigint      not null,
+    settled_at    datetime(6) not null,
+    primary key (business_date)
+) engine = InnoDB;
+
+create table settlement_line
+(
+    business_date date         not null,
+    dimension     varchar(255) not null,
+    dimension_key varchar(36)  not null,
+    order_count   bigint       not null,
+    quantity      bigint       not null,
+    amount        bigint       not null,
+    primary key (business_date, dimension, dimension_key)
+) engine = InnoDB;
@@ -0,0 +1,9 @@
+create table idempotency_key
+(
+    idempotency_key varchar(255)  not null,
+    order_id        varbinary(16) not null,
+    created_at      datetime(6)   not null,
+    primary key (idempotency_key)
+) engine = InnoDB;
+
+create index ix_idempotency_key_created_at on idempotency_key (created_at);
@@ -0,0 +1,100 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import kitchenpos.domain.BestSeller;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderLineItemSummary;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BestSellerServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2021, 8, 1, 12, 34);
+    private static final UUID FRIED = UUID.randomUUID();
+    private static final UUID SEASONED = UUID.randomUUID();
+    private static final UUID SOY = UUID.randomUUID();
+
+    private BestSellerService bestSellerService;
+
+    @BeforeEach
+    void setUp() {
+        bestSellerService = new BestSellerService(60, 5, 2);
+    }
+
+    @DisplayName("onOrderCreated - 최근 주문의 메뉴별 수량을 많이 팔린 순으로 조회한다")
+    @Test
+    void onOrderCreated() {
+        //given
+        bestSellerService.onOrderCreated(created(NOW.minusMinutes(10), FRIED, "후라이드", 2L));
+        bestSellerService.onOrderCreated(created(NOW.minusMinutes(1), SEASONED, "양념", 3L));
+        bestSellerService.onOrderCreated(created(NOW, FRIED, "후라이드", 2L));
+
+        //when
+        final List<BestSeller> sut = bestSellerService.findAll(2, NOW);
+
+        //then
+        assertThat(sut)
+            .extracting(BestSeller::getMenuId, BestSeller::getMenuName, BestSeller::getQuantity, BestSeller::getError)
+            .containsExactly(tuple(FRIED, "후라이드", 4L, 0L), tuple(SEASONED, "양념", 3L, 0L));
+    }
+
+    @DisplayName("onOrderCreated - 용량을 넘는 메뉴가 들어오면 추정 수량과 오차를 함께 반환한다")
+    @Test
+    void onOrderCreatedOverCapacity() {
+        //given
+        bestSellerService.onOrderCreated(created(NOW, FRIED, "후라이드", 5L));
+        bestSellerService.onOrderCreated(created(NOW, SEASONED, "양념", 1L));
+
+        //when
+        bestSellerService.onOrderCreated(created(NOW, SOY, "간장", 1L));
+
+        //then
+        assertThat(bestSellerService.findAll(2, NOW))
+            .extracting(BestSeller::getMenuId, BestSeller::getMenuName, BestSeller::getQuantity, BestSeller::getError)
+            .containsExactly(tuple(FRIED, "후라이드", 5L, 0L), tuple(SOY, "간장", 2L, 1L));
+    }
+
+    @DisplayName("findAll - 조회 구간을 벗어난 주문은 집계하지 않는다")
+    @Test
+    void findAllExpired() {
+        //given
+        bestSellerService.onOrderCreated(created(NOW.minusMinutes(90), FRIED, "후라이드", 5L));
+        bestSellerService.onOrderCreated(created(NOW, SEASONED, "양념", 1L));
+
+        //when, then
+        assertThat(bestSellerService.findAll(2, NOW))
+            .extracting(BestSeller::getMenuId)
+            .containsExactly(SEASONED);
+    }
+
+    @DisplayName("findAll - 조회 개수가 용량보다 크면 예외가 발생한다")
+    @Test
+    void findAllOverCapacity() {
+        //when, then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> bestSellerService.findAll(3, NOW));
+    }
+
+    private OrderCreatedEvent created(
+        final LocalDateTime orderDateTime,
+        final UUID menuId,
+        final String menuName,
+        final long quantity
+    ) {
+        final OrderSummary order = new OrderSummary(
+            UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING, orderDateTime, null, null, 1_600_000L * quantity
+        );
+        order.addOrderLineItem(new OrderLineItemSummary(menuId, menuName, 1_600_000L, quantity));
+        return new OrderCreatedEvent(order);
+    }
+}
@@ -0,0 +1,231 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import kitchenpos.infra.DeliveryRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DeliveryDispatchServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2021, 8, 1, 12, 0);
+    private static final String ADDRESS = "서울시 송파구 위례성대로 2";
+    private static final long RETRY_BACKOFF = 1_000L;
+
+    private final InMemoryPendingDeliveryRepository pendingDeliveryRepository = new InMemoryPendingDeliveryRepository();
+    private final FakeKitchenridersClient kitchenridersClient = new FakeKitchenridersClient();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DeliveryDispatchService deliveryDispatchService;
+
+    @BeforeEach
+    void setUp() {
+        deliveryDispatchService = newDeliveryDispatchService();
+    }
+
+    @DisplayName("flush - 대기 시간이 지나면 정규화한 배달 주소별로 한 번씩 배달을 요청한다")
+    @Test
+    void flush() {
+        //given
+        final DeliveryRequest first = request(ADDRESS);
+        final DeliveryRequest second = request("  서울시  송파구 위례성대로 2 ");
+        final DeliveryRequest other = request("서울시 강남구 테헤란로 1");
+        deliveryDispatchService.enqueue(first, NOW);
+        deliveryDispatchService.enqueue(second, NOW.plusSeconds(30));
+        deliveryDispatchService.enqueue(other, NOW.plusSeconds(40));
+
+        //when
+        deliveryDispatchService.flush(NOW.plusSeconds(59));
+        final int beforeWindow = kitchenridersClient.getCalls().size();
+        deliveryDispatchService.flush(NOW.plusSeconds(60));
+
+        //then
+        final List<List<DeliveryRequest>> sut = kitchenridersClient.getCalls();
+        assertAll(
+            () -> assertThat(beforeWindow).isZero(),
+            () -> assertThat(sut).hasSize(1),
+            () -> assertThat(sut.get(0))
+                .extracting(DeliveryRequest::getOrderId)
+                .containsExactly(first.getOrderId(), second.getOrderId())
+        );
+    }
+
+    @DisplayName("flush - 같은 주소의 요청이 최대 묶음 크기에 이르면 대기 시간 전이라도 다음 배차에서 요청한다")
+    @Test
+    void flushFull() {
+        //given
+        for (int i = 0; i < 4; i++) {
+            deliveryDispatchService.enqueue(request(ADDRESS), NOW);
+        }
+        final int beforeFlush = kitchenridersClient.getCalls().size();
+
+        //when
+        deliveryDispatchService.flush(NOW);
+
+        //then
+        assertAll(
+            () -> assertThat(beforeFlush).isZero(),
+            () -> assertThat(kitchenridersClient.getCalls())
+                .extracting(List::size)
+                .containsExactly(3),
+            () -> assertThat(pendingDeliveryRepository.findAllPending()).hasSize(1)
+        );
+    }
+
+    @DisplayName("flush - 배달 대행 요청이 실패하면 대기 후 같은 주소의 새 요청과 함께 다시 요청한다")
+    @Test
+    void flushFailed() {
+        //given
+        deliveryDispatchService.enqueue(request(ADDRESS), NOW);
+        kitchenridersClient.setUnavailable(true);
+        deliveryDispatchService.flush(NOW.plusMinutes(1));
+        deliveryDispatchService.enqueue(request(ADDRESS), NOW.plusMinutes(1));
+        kitchenridersClient.setUnavailable(false);
+
+        //when
+        deliveryDispatchService.flush(NOW.plusMinutes(1));
+        final int beforeBackoff = kitchenridersClient.getCalls().size();
+        deliveryDispatchService.flush(NOW.plusMinutes(1).plus(Duration.ofMillis(RETRY_BACKOFF)));
+
+        //then
+        assertAll(
+            () -> assertThat(beforeBackoff).isZero(),
+            () -> assertThat(kitchenridersClient.getCalls())
+                .extracting(List::size)
+                .containsExactly(2)
+        );
+    }
+
+    @DisplayName("flush - 재시도 간격은 실패할 때마다 두 배로 늘어나고, 최대 시도 횟수를 넘긴 요청은 실패로 남기고 집계한다")
+    @Test
+    void flushExhausted() {
+        //given
+        deliveryDispatchService.enqueue(request(ADDRESS), NOW);
+        kitchenridersClient.setUnavailable(true);
+        final LocalDateTime first = NOW.plusMinutes(1);
+        final LocalDateTime second = first.plusSeconds(1);
+        final LocalDateTime third = second.plusSeconds(2);
+
+        //when
+        deliveryDispatchService.flush(first);
+        deliveryDispatchService.flush(second);
+        deliveryDispatchService.flush(third.minusNanos(1));
+        final double droppedBeforeThird = meterRegistry.counter("kitchenpos.deliveries.dropped").count();
+        deliveryDispatchService.flush(third);
+        kitchenridersClient.setUnavailable(false);
+        deliveryDispatchService.flush(third.plusMinutes(10));
+
+        //then
+        assertAll(
+            () -> assertThat(droppedBeforeThird).isZero(),
+            () -> assertThat(meterRegistry.counter("kitchenpos.deliveries.dropped").count()).isOne(),
+            () -> assertThat(kitchenridersClient.getCalls()).isEmpty(),
+            () -> assertThat(pendingDeliveryRepository.findAllFailed())
+                .singleElement()
+                .satisfies(sut -> assertThat(sut.getAttempts()).isEqualTo(3))
+        );
+    }
+
+    @DisplayName("flush - 회로가 열려 호출이 거절되면 시도 횟수를 세지 않고 대기 후 다시 요청한다")
+    @Test
+    void flushRejected() {
+        //given
+        final DeliveryRequest deliveryRequest = request(ADDRESS);
+        deliveryDispatchService.enqueue(deliveryRequest, NOW);
+        kitchenridersClient.setRejecting(true);
+        LocalDateTime now = NOW.plusMinutes(1);
+        for (int i = 0; i < 10; i++) {
+            deliveryDispatchService.flush(now);
+            now = now.plus(Duration.ofMillis(RETRY_BACKOFF));
+        }
+        kitchenridersClient.setRejecting(false);
+
+        //when
+        deliveryDispatchService.flush(now);
+
+        //then
+        assertAll(
+            () -> assertThat(meterRegistry.counter("kitchenpos.deliveries.dropped").count()).isZero(),
+            () -> assertThat(kitchenridersClient.getCalls())
+                .flatExtracting(calls -> calls)
+                .extracting(DeliveryRequest::getOrderId)
+                .containsExactly(deliveryRequest.getOrderId()),
+            () -> assertThat(pendingDeliveryRepository.findAllPending()).isEmpty()
+        );
+    }
+
+    @DisplayName("flush - 대기 중인 요청은 저장소에 남아 있어 다시 시작한 뒤에도 요청한다")
+    @Test
+    void flushAfterRestart() {
+        //given
+        final DeliveryRequest deliveryRequest = request(ADDRESS);
+        deliveryDispatchService.enqueue(deliveryRequest, NOW);
+        final DeliveryDispatchService restarted = newDeliveryDispatchService();
+
+        //when
+        restarted.flush(NOW.plusMinutes(1));
+
+        //then
+        assertThat(kitchenridersClient.getCalls())
+            .flatExtracting(calls -> calls)
+            .extracting(DeliveryRequest::getOrderId)
+            .containsExactly(deliveryRequest.getOrderId());
+    }
+
+    @DisplayName("onOrderStatusChanged - 접수된 배달 주문만 주문 금액과 함께 요청 대기열에 쌓는다")
+    @Test
+    void onOrderStatusChanged() {
+        //given
+        final OrderSummary delivery = order(OrderType.DELIVERY, OrderStatus.ACCEPTED);
+        final OrderSummary takeout = order(OrderType.TAKEOUT, OrderStatus.ACCEPTED);
+        final OrderSummary served = order(OrderType.DELIVERY, OrderStatus.SERVED);
+
+        //when
+        deliveryDispatchService.onOrderStatusChanged(new OrderStatusChangedEvent(delivery, OrderStatus.WAITING));
+        deliveryDispatchService.onOrderStatusChanged(new OrderStatusChangedEvent(takeout, OrderStatus.WAITING));
+        deliveryDispatchService.onOrderStatusChanged(new OrderStatusChangedEvent(served, OrderStatus.ACCEPTED));
+        deliveryDispatchService.flush(LocalDateTime.now().plusHours(1));
+
+        //then
+        assertThat(kitchenridersClient.getCalls())
+            .flatExtracting(calls -> calls)
+            .singleElement()
+            .satisfies(sut -> assertAll(
+                () -> assertThat(sut.getOrderId()).isEqualTo(delivery.getId()),
+                () -> assertThat(sut.getAmount()).isEqualTo(new BigDecimal("32000.00"))
+            ));
+    }
+
+    private DeliveryDispatchService newDeliveryDispatchService() {
+        return new DeliveryDispatchService(
+            pendingDeliveryRepository,
+            kitchenridersClient,
+            60_000L,
+            3,
+            3,
+            RETRY_BACKOFF,
+            meterRegistry
+        );
+    }
+
+    private DeliveryRequest request(final String deliveryAddress) {
+        return new DeliveryRequest(UUID.randomUUID(), BigDecimal.valueOf(16_000L), deliveryAddress);
+    }
+
+    private OrderSummary order(final OrderType type, final OrderStatus status) {
+        return new OrderSummary(UUID.randomUUID(), type, status, NOW, ADDRESS, null, 3_200_000L);
+    }
+}
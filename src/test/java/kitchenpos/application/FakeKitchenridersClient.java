@@ -0,0 +1,37 @@
+package kitchenpos.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import kitchenpos.infra.DeliveryRequest;
+import kitchenpos.infra.KitchenridersClient;
+
+public class FakeKitchenridersClient implements KitchenridersClient {
+
+    private final List<List<DeliveryRequest>> calls = new ArrayList<>();
+    private boolean unavailable;
+    private boolean rejecting;
+
+    @Override
+    public void requestDeliveries(final List<DeliveryRequest> deliveryRequests) {
+        if (rejecting) {
+            throw new RejectedExecutionException();
+        }
+        if (unavailable) {
+            throw new IllegalStateException();
+        }
+        calls.add(new ArrayList<>(deliveryRequests));
+    }
+
+    public List<List<DeliveryRequest>> getCalls() {
+        return calls;
+    }
+
+    public void setUnavailable(final boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    public void setRejecting(final boolean rejecting) {
+        this.rejecting = rejecting;
+    }
+}
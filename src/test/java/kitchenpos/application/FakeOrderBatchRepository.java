@@ -0,0 +1,66 @@
+package kitchenpos.application;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderBatchRepository;
+import kitchenpos.domain.OrderRepository;
+
+public class FakeOrderBatchRepository implements OrderBatchRepository {
+
+    private final OrderRepository orderRepository;
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final Set<UUID> failingOrderIds = new HashSet<>();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private CountDownLatch released = new CountDownLatch(0);
+
+    public FakeOrderBatchRepository(final OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public void saveAll(final List<Order> orders) {
+        entered.countDown();
+        try {
+            released.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        synchronized (this) {
+            for (final Order order : orders) {
+                if (failingOrderIds.contains(order.getId())) {
+                    throw new IllegalStateException();
+                }
+            }
+            batchSizes.add(orders.size());
+            for (final Order order : orders) {
+                orderRepository.save(order);
+            }
+        }
+    }
+
+    public void block() {
+        released = new CountDownLatch(1);
+    }
+
+    public void awaitEntered() throws InterruptedException {
+        entered.await();
+    }
+
+    public void release() {
+        released.countDown();
+    }
+
+    public synchronized void fail(final UUID orderId) {
+        failingOrderIds.add(orderId);
+    }
+
+    public synchronized List<Integer> getBatchSizes() {
+        return new ArrayList<>(batchSizes);
+    }
+}
@@ -0,0 +1,45 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import kitchenpos.domain.IdempotencyKey;
+import kitchenpos.domain.IdempotencyKeyRepository;
+import org.springframework.dao.DuplicateKeyException;
+
+public class InMemoryIdempotencyKeyRepository implements IdempotencyKeyRepository {
+
+    private final Map<String, IdempotencyKey> idempotencyKeys = new HashMap<>();
+
+    @Override
+    public IdempotencyKey save(final IdempotencyKey idempotencyKey) {
+        if (idempotencyKeys.containsKey(idempotencyKey.getKey())) {
+            throw new DuplicateKeyException(idempotencyKey.getKey());
+        }
+        idempotencyKeys.put(idempotencyKey.getKey(), idempotencyKey);
+        return idempotencyKey;
+    }
+
+    @Override
+    public Optional<IdempotencyKey> findByKey(final String key) {
+        return Optional.ofNullable(idempotencyKeys.get(key));
+    }
+
+    @Override
+    public int deleteByKeyAndCreatedAtBefore(final String key, final LocalDateTime before) {
+        final IdempotencyKey idempotencyKey = idempotencyKeys.get(key);
+        if (idempotencyKey == null || !idempotencyKey.getCreatedAt().isBefore(before)) {
+            return 0;
+        }
+        idempotencyKeys.remove(key);
+        return 1;
+    }
+
+    @Override
+    public int deleteAllByCreatedAtBefore(final LocalDateTime before) {
+        final int size = idempotencyKeys.size();
+        idempotencyKeys.values().removeIf(idempotencyKey -> idempotencyKey.getCreatedAt().isBefore(before));
+        return size - idempotencyKeys.size();
+    }
+}
@@ -0,0 +1,57 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderArchiveRepository;
+import kitchenpos.domain.OrderStatus;
+
+public class InMemoryOrderArchiveRepository implements OrderArchiveRepository {
+
+    private final Map<UUID, Order> orders = new LinkedHashMap<>();
+    private final Map<UUID, Order> archivedOrders = new LinkedHashMap<>();
+
+    public Order save(final Order order) {
+        orders.put(order.getId(), order);
+        return order;
+    }
+
+    public List<Order> findAll() {
+        return new ArrayList<>(orders.values());
+    }
+
+    public List<Order> findAllArchived() {
+        return new ArrayList<>(archivedOrders.values());
+    }
+
+    @Override
+    public List<UUID> findCompletedOrderIdsBefore(final LocalDateTime orderDateTime, final int limit) {
+        return orders.values()
+            .stream()
+            .filter(order -> order.getStatus() == OrderStatus.COMPLETED)
+            .filter(order -> order.getOrderDateTime().isBefore(orderDateTime))
+            .sorted(Comparator.comparing(Order::getOrderDateTime))
+            .limit(limit)
+            .map(Order::getId)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public int archive(final List<UUID> orderIds, final LocalDateTime archivedAt) {
+        int archived = 0;
+        for (final UUID orderId : orderIds) {
+            final Order order = orders.remove(orderId);
+            if (order != null) {
+                archivedOrders.put(orderId, order);
+                archived++;
+            }
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import kitchenpos.domain.OrderHistoryRepository;
+import kitchenpos.domain.OrderHistoryRow;
+
+public class InMemoryOrderHistoryRepository implements OrderHistoryRepository {
+
+    private final List<OrderHistoryRow> rows = new ArrayList<>();
+
+    public void save(final OrderHistoryRow row) {
+        rows.add(row);
+    }
+
+    @Override
+    public void forEachByOrderDateTimeBetween(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final Consumer<OrderHistoryRow> action
+    ) {
+        rows.stream()
+            .filter(row -> !row.getOrderDateTime().isBefore(from) && row.getOrderDateTime().isBefore(to))
+            .forEach(action);
+    }
+}
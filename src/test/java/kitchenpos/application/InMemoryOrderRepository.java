@@ -1,16 +1,25 @@
 package kitchenpos.application;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderLineItemSummary;
 import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableBillLine;
+import kitchenpos.domain.OrderType;
 
 public class InMemoryOrderRepository implements OrderRepository {
 
@@ -32,6 +41,90 @@ public class InMemoryOrderRepository implements OrderRepository {
         return new ArrayList<>(orders.values());
     }
 
+    @Override
+    public List<OrderSummary> findAllSummaries() {
+        final List<OrderSummary> summaries = new ArrayList<>();
+        for (final Order order : orders.values()) {
+            final OrderSummary summary = new OrderSummary(order.getId(), order.getType(), order.getStatus(), order.getOrderDateTime(),
+                order.getDeliveryAddress(), order.getOrderTableId(), order.getTotalAmount());
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                summary.addOrderLineItem(new OrderLineItemSummary(
+                    orderLineItem.getMenu().getId(),
+                    orderLineItem.getMenuName(),
+                    orderLineItem.getPriceAmount(),
+                    orderLineItem.getQuantity()
+                ));
+            }
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<OrderSummary> findAllSummariesByOrderDateTimeBetween(final LocalDateTime from, final LocalDateTime to) {
+        return findAllSummaries().stream()
+            .filter(order -> !order.getOrderDateTime().isBefore(from) && order.getOrderDateTime().isBefore(to))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OrderSummary> findAllSummariesByStatusIn(final Collection<OrderStatus> statuses) {
+        return findAllSummaries().stream()
+            .filter(order -> statuses.contains(order.getStatus()))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OrderLineItemSummary> findAllLineItemSummariesByOrderId(final UUID orderId) {
+        final Order order = orders.get(orderId);
+        if (Objects.isNull(order)) {
+            return new ArrayList<>();
+        }
+        return order.getOrderLineItems()
+            .stream()
+            .map(orderLineItem -> new OrderLineItemSummary(
+                orderLineItem.getMenu().getId(),
+                orderLineItem.getMenuName(),
+                orderLineItem.getPriceAmount(),
+                orderLineItem.getQuantity()
+            ))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OrderTableBillLine> findAllBillLinesByOrderTableIdAndStatusNot(final UUID orderTableId, final OrderStatus status) {
+        final Map<List<Object>, OrderTableBillLine> lines = new LinkedHashMap<>();
+        for (final Order order : orders.values()) {
+            if (!Objects.equals(order.getOrderTableId(), orderTableId) || order.getStatus() == status) {
+                continue;
+            }
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                final UUID menuId = orderLineItem.getMenu().getId();
+                final List<Object> key = Arrays.asList(menuId, orderLineItem.getMenuName(), orderLineItem.getPriceAmount());
+                final OrderTableBillLine line = lines.get(key);
+                final long quantity = orderLineItem.getQuantity() + (line == null ? 0L : line.getQuantity());
+                lines.put(key, new OrderTableBillLine(menuId, orderLineItem.getMenuName(), orderLineItem.getPriceAmount(), quantity));
+            }
+        }
+        return new ArrayList<>(lines.values());
+    }
+
+    @Override
+    public Optional<OrderType> findTypeById(final UUID id) {
+        return Optional.ofNullable(orders.get(id))
+            .map(Order::getType);
+    }
+
+    @Override
+    public int updateStatus(final UUID id, final Collection<OrderType> types, final OrderStatus from, final OrderStatus to) {
+        final Order order = orders.get(id);
+        if (order == null || order.getStatus() != from || !types.contains(order.getType())) {
+            return 0;
+        }
+        order.setStatus(to);
+        return 1;
+    }
+
     //해당 테이블의 주문상태가 하나라도 status면 true
     @Override
     public boolean existsByOrderTableAndStatusNot(final OrderTable orderTable, final OrderStatus status) {
@@ -24,6 +24,11 @@ public class InMemoryOrderTableRepository implements OrderTableRepository {
         return Optional.ofNullable(orderTables.get(id));
     }
 
+    @Override
+    public boolean existsById(final UUID id) {
+        return orderTables.containsKey(id);
+    }
+
     @Override
     public List<OrderTable> findAll() {
         return new ArrayList<>(orderTables.values());
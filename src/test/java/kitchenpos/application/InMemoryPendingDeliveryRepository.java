@@ -0,0 +1,110 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import kitchenpos.domain.PendingDelivery;
+import kitchenpos.domain.PendingDeliveryRepository;
+import org.springframework.dao.DuplicateKeyException;
+
+public class InMemoryPendingDeliveryRepository implements PendingDeliveryRepository {
+
+    private final Map<UUID, PendingDelivery> pendingDeliveries = new LinkedHashMap<>();
+    private final Map<UUID, PendingDelivery> failedDeliveries = new LinkedHashMap<>();
+
+    @Override
+    public PendingDelivery save(final PendingDelivery pendingDelivery) {
+        if (pendingDeliveries.containsKey(pendingDelivery.getOrderId())
+            || failedDeliveries.containsKey(pendingDelivery.getOrderId())) {
+            throw new DuplicateKeyException(pendingDelivery.getOrderId().toString());
+        }
+        pendingDeliveries.put(pendingDelivery.getOrderId(), pendingDelivery);
+        return pendingDelivery;
+    }
+
+    @Override
+    public List<PendingDelivery> findAllDispatchable(final LocalDateTime now, final int batchSize) {
+        final Map<String, List<PendingDelivery>> groups = new LinkedHashMap<>();
+        for (final PendingDelivery pendingDelivery : pendingDeliveries.values()) {
+            groups.computeIfAbsent(pendingDelivery.getAddressKey(), key -> new ArrayList<>()).add(pendingDelivery);
+        }
+        return groups.values().stream()
+            .filter(group -> group.stream().anyMatch(pendingDelivery -> !pendingDelivery.getDueAt().isAfter(now))
+                || group.stream().filter(pendingDelivery -> pendingDelivery.getAttempts() == 0).count() >= batchSize)
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(PendingDelivery::getCreatedAt))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public int deleteAllByOrderIdIn(final List<UUID> orderIds) {
+        int deleted = 0;
+        for (final UUID orderId : orderIds) {
+            if (pendingDeliveries.remove(orderId) != null) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public int retryAllByOrderIdIn(final List<UUID> orderIds, final LocalDateTime dueAt) {
+        return update(orderIds, pendingDelivery -> copy(pendingDelivery, pendingDelivery.getAttempts() + 1, dueAt));
+    }
+
+    @Override
+    public int postponeAllByOrderIdIn(final List<UUID> orderIds, final LocalDateTime dueAt) {
+        return update(orderIds, pendingDelivery -> copy(pendingDelivery, pendingDelivery.getAttempts(), dueAt));
+    }
+
+    @Override
+    public int failAllByOrderIdIn(final List<UUID> orderIds, final LocalDateTime failedAt) {
+        int failed = 0;
+        for (final UUID orderId : orderIds) {
+            final PendingDelivery pendingDelivery = pendingDeliveries.remove(orderId);
+            if (pendingDelivery != null) {
+                failedDeliveries.put(orderId, copy(pendingDelivery, pendingDelivery.getAttempts() + 1, pendingDelivery.getDueAt()));
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    public List<PendingDelivery> findAllPending() {
+        return new ArrayList<>(pendingDeliveries.values());
+    }
+
+    public List<PendingDelivery> findAllFailed() {
+        return new ArrayList<>(failedDeliveries.values());
+    }
+
+    private int update(final List<UUID> orderIds, final UnaryOperator<PendingDelivery> updater) {
+        int updated = 0;
+        for (final UUID orderId : orderIds) {
+            final PendingDelivery pendingDelivery = pendingDeliveries.get(orderId);
+            if (pendingDelivery != null) {
+                pendingDeliveries.put(orderId, updater.apply(pendingDelivery));
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private PendingDelivery copy(final PendingDelivery pendingDelivery, final int attempts, final LocalDateTime dueAt) {
+        return new PendingDelivery(
+            pendingDelivery.getOrderId(),
+            pendingDelivery.getAddressKey(),
+            pendingDelivery.getDeliveryAddress(),
+            pendingDelivery.getAmount(),
+            attempts,
+            dueAt,
+            pendingDelivery.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import kitchenpos.domain.SalesRollup;
+import kitchenpos.domain.SalesRollupRepository;
+
+public class InMemorySalesRollupRepository implements SalesRollupRepository {
+
+    private final Map<List<Object>, SalesRollup> rollups = new LinkedHashMap<>();
+
+    @Override
+    public void addAll(final Collection<SalesRollup> rollups) {
+        for (final SalesRollup rollup : rollups) {
+            this.rollups.merge(
+                Arrays.asList(rollup.getBucketHour(), rollup.getDimension(), rollup.getDimensionId()),
+                rollup,
+                SalesRollup::plus
+            );
+        }
+    }
+
+    @Override
+    public List<SalesRollup> findAllByBucketHourBetween(final LocalDateTime from, final LocalDateTime to) {
+        return rollups.values()
+            .stream()
+            .filter(rollup -> !rollup.getBucketHour().isBefore(from) && rollup.getBucketHour().isBefore(to))
+            .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return rollups.size();
+    }
+}
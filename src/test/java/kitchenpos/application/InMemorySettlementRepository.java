@@ -0,0 +1,24 @@
+package kitchenpos.application;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import kitchenpos.domain.Settlement;
+import kitchenpos.domain.SettlementRepository;
+
+public class InMemorySettlementRepository implements SettlementRepository {
+
+    private final Map<LocalDate, Settlement> settlements = new HashMap<>();
+
+    @Override
+    public Settlement save(final Settlement settlement) {
+        settlements.put(settlement.getBusinessDate(), settlement);
+        return settlement;
+    }
+
+    @Override
+    public Optional<Settlement> findByBusinessDate(final LocalDate businessDate) {
+        return Optional.ofNullable(settlements.get(businessDate));
+    }
+}
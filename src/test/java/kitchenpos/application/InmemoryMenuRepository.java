@@ -10,6 +10,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.MenuSummary;
 
 public class InmemoryMenuRepository implements MenuRepository {
 
@@ -26,11 +27,24 @@ public class InmemoryMenuRepository implements MenuRepository {
         return Optional.ofNullable(menus.get(id));
     }
 
+    @Override
+    public Optional<Menu> findWithMenuProductsById(final UUID id) {
+        return findById(id);
+    }
+
     @Override
     public List<Menu> findAll() {
         return new ArrayList<>(menus.values());
     }
 
+    @Override
+    public List<MenuSummary> findAllSummaries() {
+        return menus.values()
+            .stream()
+            .map(menu -> new MenuSummary(menu.getId(), menu.getName(), menu.getPriceMoney(), menu.isDisplayed(), menu.getMenuGroupId()))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public List<Menu> findAllByIdIn(final List<UUID> ids) {
         return menus.values()
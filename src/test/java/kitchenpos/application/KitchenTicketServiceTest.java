@@ -0,0 +1,192 @@
+package kitchenpos.application;
+
+import static kitchenpos.application.fixture.MenuFixture.MENU1;
+import static kitchenpos.application.fixture.MenuFixture.MENU2;
+import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS;
+import static kitchenpos.application.fixture.ProductFixture.PRODUCT1;
+import static kitchenpos.application.fixture.ProductFixture.PRODUCT2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import kitchenpos.domain.KitchenTicket;
+import kitchenpos.domain.KitchenWorkloadItem;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KitchenTicketServiceTest {
+
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2021, 8, 1, 12, 0);
+
+    private final OrderRepository orderRepository = new InMemoryOrderRepository();
+    private final MenuRepository menuRepository = new InmemoryMenuRepository();
+
+    private KitchenTicketService kitchenTicketService;
+
+    @BeforeEach
+    void setUp() {
+        final Map<String, Long> promiseMinutes = new HashMap<>();
+        promiseMinutes.put("EAT_IN", 15L);
+        promiseMinutes.put("TAKEOUT", 20L);
+        promiseMinutes.put("DELIVERY", 40L);
+        kitchenTicketService = new KitchenTicketService(
+            orderRepository,
+            menuRepository,
+            Collections.singletonMap(PRODUCT2().getId().toString(), "grill"),
+            "fryer",
+            promiseMinutes,
+            60L
+        );
+        menuRepository.save(MENU1());
+        menuRepository.save(MENU2());
+    }
+
+    @DisplayName("onOrderStatusChanged - 접수된 주문을 상품의 조리 구역별 티켓으로 나눈다")
+    @Test
+    void onOrderStatusChanged() {
+        //given
+        final Order order = order(OrderType.EAT_IN, ORDER_DATE_TIME);
+
+        //when
+        kitchenTicketService.onOrderStatusChanged(accepted(order));
+
+        //then
+        final List<KitchenTicket> fryer = kitchenTicketService.findAll("fryer");
+        final List<KitchenTicket> grill = kitchenTicketService.findAll("grill");
+        assertAll(
+            () -> assertThat(fryer).hasSize(1),
+            () -> assertThat(fryer.get(0).getPromisedAt()).isEqualTo(ORDER_DATE_TIME.plusMinutes(15)),
+            () -> assertThat(fryer.get(0).getStartBy()).isEqualTo(ORDER_DATE_TIME.plusMinutes(5)),
+            () -> assertThat(fryer.get(0).getItems())
+                .extracting(KitchenWorkloadItem::getId, KitchenWorkloadItem::getQuantity)
+                .containsExactly(tuple(PRODUCT1().getId(), 10L)),
+            () -> assertThat(grill).hasSize(1),
+            () -> assertThat(grill.get(0).getItems())
+                .extracting(KitchenWorkloadItem::getId, KitchenWorkloadItem::getQuantity)
+                .containsExactly(tuple(PRODUCT2().getId(), 15L))
+        );
+    }
+
+    @DisplayName("next - 먼저 들어온 배달 주문보다 약속 시각이 이른 매장 주문의 티켓을 먼저 꺼낸다")
+    @Test
+    void next() {
+        //given
+        final Order delivery = order(OrderType.DELIVERY, ORDER_DATE_TIME);
+        final Order eatIn = order(OrderType.EAT_IN, ORDER_DATE_TIME.plusMinutes(5));
+        kitchenTicketService.onOrderStatusChanged(accepted(delivery));
+        kitchenTicketService.onOrderStatusChanged(accepted(eatIn));
+
+        //when
+        final Optional<KitchenTicket> first = kitchenTicketService.next("fryer");
+        final Optional<KitchenTicket> second = kitchenTicketService.next("fryer");
+        final Optional<KitchenTicket> third = kitchenTicketService.next("fryer");
+
+        //then
+        assertAll(
+            () -> assertThat(first).get().extracting(KitchenTicket::getOrderId).isEqualTo(eatIn.getId()),
+            () -> assertThat(second).get().extracting(KitchenTicket::getOrderId).isEqualTo(delivery.getId()),
+            () -> assertThat(third).isEmpty()
+        );
+    }
+
+    @DisplayName("onOrderStatusChanged - 접수 상태를 벗어난 주문의 남은 티켓은 대기열에서 빠진다")
+    @Test
+    void onOrderStatusChangedClosed() {
+        //given
+        final Order order = order(OrderType.EAT_IN, ORDER_DATE_TIME);
+        kitchenTicketService.onOrderStatusChanged(accepted(order));
+        order.setStatus(OrderStatus.SERVED);
+
+        //when
+        kitchenTicketService.onOrderStatusChanged(new OrderStatusChangedEvent(OrderSummary.withoutOrderLineItems(order), OrderStatus.ACCEPTED));
+
+        //then
+        assertAll(
+            () -> assertThat(kitchenTicketService.findAll("fryer")).isEmpty(),
+            () -> assertThat(kitchenTicketService.next("grill")).isEmpty()
+        );
+    }
+
+    @DisplayName("rebuild - 접수 상태의 주문으로 티켓 대기열을 다시 만든다")
+    @Test
+    void rebuild() {
+        //given
+        final Order accepted = order(OrderType.TAKEOUT, ORDER_DATE_TIME);
+        accepted.setStatus(OrderStatus.ACCEPTED);
+        orderRepository.save(accepted);
+        orderRepository.save(order(OrderType.TAKEOUT, ORDER_DATE_TIME));
+
+        //when
+        kitchenTicketService.rebuild();
+
+        //then
+        assertThat(kitchenTicketService.findAll("fryer"))
+            .extracting(KitchenTicket::getOrderId)
+            .containsExactly(accepted.getId());
+    }
+
+    @DisplayName("next - 여러 단말이 동시에 꺼내도 5천 개의 티켓을 한 번씩만 꺼낸다")
+    @Test
+    void nextConcurrently() throws Exception {
+        //given
+        for (int i = 0; i < 5_000; i++) {
+            kitchenTicketService.onOrderStatusChanged(accepted(order(OrderType.EAT_IN, ORDER_DATE_TIME.plusSeconds(i))));
+        }
+        final ConcurrentLinkedQueue<KitchenTicket> taken = new ConcurrentLinkedQueue<>();
+        final ExecutorService terminals = Executors.newFixedThreadPool(8);
+
+        //when
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(terminals.submit(() -> {
+                Optional<KitchenTicket> ticket;
+                while ((ticket = kitchenTicketService.next("fryer")).isPresent()) {
+                    taken.add(ticket.get());
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        terminals.shutdown();
+
+        //then
+        assertAll(
+            () -> assertThat(taken).hasSize(5_000),
+            () -> assertThat(taken).extracting(KitchenTicket::getId).doesNotHaveDuplicates(),
+            () -> assertThat(kitchenTicketService.findAll("fryer")).isEmpty(),
+            () -> assertThat(kitchenTicketService.findAll("grill")).hasSize(5_000)
+        );
+    }
+
+    private OrderStatusChangedEvent accepted(final Order order) {
+        order.setStatus(OrderStatus.ACCEPTED);
+        orderRepository.save(order);
+        return new OrderStatusChangedEvent(OrderSummary.withoutOrderLineItems(order), OrderStatus.WAITING);
+    }
+
+    private Order order(final OrderType type, final LocalDateTime orderDateTime) {
+        final Order order = ORDER_WITH_TYPE_AND_STATUS(type, OrderStatus.WAITING);
+        order.setOrderDateTime(orderDateTime);
+        return order;
+    }
+}
@@ -0,0 +1,97 @@
+package kitchenpos.application;
+
+import static kitchenpos.application.fixture.MenuFixture.MENU1;
+import static kitchenpos.application.fixture.MenuFixture.MENU2;
+import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS;
+import static kitchenpos.application.fixture.ProductFixture.PRODUCT1;
+import static kitchenpos.application.fixture.ProductFixture.PRODUCT2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import kitchenpos.domain.KitchenWorkload;
+import kitchenpos.domain.KitchenWorkloadItem;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KitchenWorkloadServiceTest {
+
+    private final OrderRepository orderRepository = new InMemoryOrderRepository();
+    private final MenuRepository menuRepository = new InmemoryMenuRepository();
+
+    private KitchenWorkloadService kitchenWorkloadService;
+
+    @BeforeEach
+    void setUp() {
+        kitchenWorkloadService = new KitchenWorkloadService(orderRepository, menuRepository);
+        menuRepository.save(MENU1());
+        menuRepository.save(MENU2());
+    }
+
+    @DisplayName("rebuild - 대기, 접수 상태의 주문으로 메뉴별, 상품별 조리 대기 수량을 다시 계산한다")
+    @Test
+    void rebuild() {
+        //given
+        orderRepository.save(ORDER_WITH_TYPE_AND_STATUS(OrderType.EAT_IN, OrderStatus.WAITING));
+        orderRepository.save(ORDER_WITH_TYPE_AND_STATUS(OrderType.TAKEOUT, OrderStatus.ACCEPTED));
+        orderRepository.save(ORDER_WITH_TYPE_AND_STATUS(OrderType.EAT_IN, OrderStatus.SERVED));
+
+        //when
+        kitchenWorkloadService.rebuild();
+
+        //then
+        final KitchenWorkload sut = kitchenWorkloadService.getWorkload();
+        assertAll(
+            () -> assertThat(sut.getMenus())
+                .extracting(KitchenWorkloadItem::getId, KitchenWorkloadItem::getQuantity)
+                .containsExactlyInAnyOrder(tuple(MENU1().getId(), 4L), tuple(MENU2().getId(), 6L)),
+            () -> assertThat(sut.getProducts())
+                .extracting(KitchenWorkloadItem::getId, KitchenWorkloadItem::getQuantity)
+                .containsExactlyInAnyOrder(tuple(PRODUCT1().getId(), 20L), tuple(PRODUCT2().getId(), 30L))
+        );
+    }
+
+    @DisplayName("onOrderCreated - 주문이 생성되면 조리 대기 수량이 늘어나고, 같은 주문이 다시 들어와도 한 번만 센다")
+    @Test
+    void onOrderCreated() {
+        //given
+        final Order order = ORDER_WITH_TYPE_AND_STATUS(OrderType.EAT_IN, OrderStatus.WAITING);
+
+        //when
+        kitchenWorkloadService.onOrderCreated(new OrderCreatedEvent(OrderSummary.from(order)));
+        kitchenWorkloadService.onOrderCreated(new OrderCreatedEvent(OrderSummary.from(order)));
+
+        //then
+        assertThat(kitchenWorkloadService.getWorkload().getMenus())
+            .extracting(KitchenWorkloadItem::getId, KitchenWorkloadItem::getQuantity)
+            .containsExactlyInAnyOrder(tuple(MENU1().getId(), 2L), tuple(MENU2().getId(), 3L));
+    }
+
+    @DisplayName("onOrderStatusChanged - 주문이 서빙되면 조리 대기 수량에서 빠진다")
+    @Test
+    void onOrderStatusChanged() {
+        //given
+        final Order order = ORDER_WITH_TYPE_AND_STATUS(OrderType.EAT_IN, OrderStatus.WAITING);
+        kitchenWorkloadService.onOrderCreated(new OrderCreatedEvent(OrderSummary.from(order)));
+        order.setStatus(OrderStatus.SERVED);
+
+        //when
+        kitchenWorkloadService.onOrderStatusChanged(new OrderStatusChangedEvent(OrderSummary.withoutOrderLineItems(order), OrderStatus.ACCEPTED));
+
+        //then
+        final KitchenWorkload sut = kitchenWorkloadService.getWorkload();
+        assertAll(
+            () -> assertThat(sut.getMenus()).isEmpty(),
+            () -> assertThat(sut.getProducts()).isEmpty()
+        );
+    }
+}
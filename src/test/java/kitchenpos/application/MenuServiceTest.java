@@ -27,6 +27,8 @@ import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
 import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.MenuSummary;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.ProductRepository;
 import kitchenpos.infra.PurgomalumClient;
 import org.junit.jupiter.api.BeforeEach;
@@ -240,7 +242,7 @@ class MenuServiceTest {
         //then
         assertAll(
             () -> assertThat(sut.getId()).isNotNull(),
-            () -> assertThat(sut.getPrice()).isEqualTo(BigDecimal.valueOf(price))
+            () -> assertThat(sut.getPrice()).isEqualTo(BigDecimal.valueOf(price).setScale(Money.SCALE))
         );
     }
 
@@ -371,4 +373,29 @@ class MenuServiceTest {
         );
     }
 
+    @DisplayName("findAllSummaries - 메뉴리스트를 필요한 필드만 조회할 수 있다")
+    @Test
+    void findAllSummaries() {
+        //given
+        final Menu menu1 = MENU1();
+        final Menu menu2 = MENU2();
+
+        menuRepository.save(menu1);
+        menuRepository.save(menu2);
+
+        //when
+        final List<MenuSummary> sut = menuService.findAllSummaries();
+
+        //then
+        assertAll(
+            () -> assertThat(sut).hasSize(MENUS().size()),
+            () -> assertThat(sut.get(ZERO)
+                .getId()).isEqualTo(menu1.getId()),
+            () -> assertThat(sut.get(ZERO)
+                .getPrice()).isEqualTo(menu1.getPrice()),
+            () -> assertThat(sut.get(ONE)
+                .getMenuGroupId()).isEqualTo(menu2.getMenuGroupId())
+        );
+    }
+
 }
@@ -0,0 +1,213 @@
+package kitchenpos.application;
+
+import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.OrderAdmissionState;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderAdmissionServiceTest {
+
+    private final OrderRepository orderRepository = new InMemoryOrderRepository();
+
+    private OrderAdmissionService orderAdmissionService;
+
+    @BeforeEach
+    void setUp() {
+        orderAdmissionService = newOrderAdmissionService(0L);
+    }
+
+    @DisplayName("admit - 처리 중인 요청이 한도에 이르면 포장 주문을 설정된 재시도 시각을 담은 OrderRejectedException 으로 거절한다")
+    @Test
+    void admitInFlight() {
+        //given
+        final OrderAdmissionService.Admission first = orderAdmissionService.admit(OrderType.TAKEOUT);
+
+        //when
+        //then
+        assertAll(
+            () -> assertThat(catchThrowableOfType(() -> orderAdmissionService.admit(OrderType.TAKEOUT), OrderRejectedException.class).getRetryAfterSeconds())
+                .isEqualTo(30L),
+            () -> assertThatCode(() -> orderAdmissionService.admit(OrderType.DELIVERY)).doesNotThrowAnyException()
+        );
+        first.close();
+        assertThatCode(() -> orderAdmissionService.admit(OrderType.TAKEOUT)).doesNotThrowAnyException();
+    }
+
+    @DisplayName("admit - 대기 시간 안에 처리 중인 요청이 끝나면 거절하지 않고 받아들인다")
+    @Test
+    void admitQueued() throws Exception {
+        //given
+        orderAdmissionService = newOrderAdmissionService(5_000L);
+        final OrderAdmissionService.Admission first = orderAdmissionService.admit(OrderType.TAKEOUT);
+        final CompletableFuture<OrderAdmissionService.Admission> queued = CompletableFuture.supplyAsync(
+            () -> orderAdmissionService.admit(OrderType.TAKEOUT)
+        );
+
+        //when
+        Thread.sleep(50L);
+        final boolean doneBeforeRelease = queued.isDone();
+        first.close();
+
+        //then
+        assertAll(
+            () -> assertThat(doneBeforeRelease).isFalse(),
+            () -> assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull()
+        );
+    }
+
+    @DisplayName("admit - 진행 중인 주문이 한도에 이르면 배달 주문을 거절하고, 주문이 나가면 다시 받는다")
+    @Test
+    void admitBacklog() {
+        //given
+        final UUID first = enter(OrderType.DELIVERY, OrderStatus.WAITING);
+        enter(OrderType.DELIVERY, OrderStatus.ACCEPTED);
+
+        //when
+        final boolean rejected = isRejected(OrderType.DELIVERY);
+        orderAdmissionService.enter(summary(first, OrderType.DELIVERY, OrderStatus.DELIVERING));
+
+        //then
+        assertAll(
+            () -> assertThat(rejected).isTrue(),
+            () -> assertThat(isRejected(OrderType.DELIVERY)).isFalse()
+        );
+    }
+
+    @DisplayName("admit - 매장 식사 주문은 한도 없이 받는다")
+    @Test
+    void admitEatIn() {
+        //given
+        for (int i = 0; i < 100; i++) {
+            enter(OrderType.EAT_IN, OrderStatus.WAITING);
+            orderAdmissionService.admit(OrderType.EAT_IN);
+        }
+
+        //when
+        //then
+        assertThatCode(() -> orderAdmissionService.admit(OrderType.EAT_IN)).doesNotThrowAnyException();
+    }
+
+    @DisplayName("rebuild - 대기 중이거나 접수된 주문으로 진행 중인 주문 수를 다시 센다")
+    @Test
+    void rebuild() {
+        //given
+        orderRepository.save(ORDER_WITH_TYPE_AND_STATUS(OrderType.DELIVERY, OrderStatus.WAITING));
+        orderRepository.save(ORDER_WITH_TYPE_AND_STATUS(OrderType.DELIVERY, OrderStatus.ACCEPTED));
+        orderRepository.save(ORDER_WITH_TYPE_AND_STATUS(OrderType.DELIVERY, OrderStatus.COMPLETED));
+        orderRepository.save(ORDER_WITH_TYPE_AND_STATUS(OrderType.TAKEOUT, OrderStatus.WAITING));
+
+        //when
+        orderAdmissionService.rebuild();
+
+        //then
+        assertAll(
+            () -> assertThat(state(OrderType.DELIVERY).getBacklog()).isEqualTo(2),
+            () -> assertThat(state(OrderType.TAKEOUT).getBacklog()).isOne(),
+            () -> assertThat(isRejected(OrderType.DELIVERY)).isTrue()
+        );
+    }
+
+    @DisplayName("findAllStates - 주문 유형별 처리 중인 요청, 진행 중인 주문, 거절 수를 보여준다")
+    @Test
+    void findAllStates() {
+        //given
+        final OrderAdmissionService.Admission admission = orderAdmissionService.admit(OrderType.TAKEOUT);
+        isRejected(OrderType.TAKEOUT);
+        enter(OrderType.TAKEOUT, OrderStatus.WAITING);
+
+        //when
+        final OrderAdmissionState sut = state(OrderType.TAKEOUT);
+        admission.close();
+        admission.close();
+
+        //then
+        assertAll(
+            () -> assertThat(sut.getInFlight()).isOne(),
+            () -> assertThat(sut.getMaxInFlight()).isOne(),
+            () -> assertThat(sut.getBacklog()).isOne(),
+            () -> assertThat(sut.getMaxBacklog()).isEqualTo(3),
+            () -> assertThat(sut.getRejected()).isOne(),
+            () -> assertThat(state(OrderType.TAKEOUT).getInFlight()).isZero(),
+            () -> assertThat(state(OrderType.EAT_IN).getMaxInFlight()).isNull()
+        );
+    }
+
+    @DisplayName("OrderAdmissionService - 없는 주문 유형에 한도를 두면 IllegalArgumentException")
+    @Test
+    void unknownType() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new OrderAdmissionService(
+                orderRepository,
+                new SimpleMeterRegistry(),
+                Collections.singletonMap("PICKUP", 1),
+                Collections.emptyMap(),
+                0L,
+                30L
+            ));
+    }
+
+    private OrderAdmissionService newOrderAdmissionService(final long queueTimeoutMillis) {
+        final Map<String, Integer> maxInFlight = new HashMap<>();
+        maxInFlight.put("TAKEOUT", 1);
+        maxInFlight.put("DELIVERY", 1);
+        final Map<String, Integer> maxBacklog = new HashMap<>();
+        maxBacklog.put("TAKEOUT", 3);
+        maxBacklog.put("DELIVERY", 2);
+        return new OrderAdmissionService(
+            orderRepository,
+            new SimpleMeterRegistry(),
+            maxInFlight,
+            maxBacklog,
+            queueTimeoutMillis,
+            30L
+        );
+    }
+
+    private UUID enter(final OrderType type, final OrderStatus status) {
+        final UUID id = UUID.randomUUID();
+        orderAdmissionService.enter(summary(id, type, status));
+        return id;
+    }
+
+    private boolean isRejected(final OrderType type) {
+        try {
+            orderAdmissionService.admit(type).close();
+            return false;
+        } catch (final RejectedExecutionException e) {
+            return true;
+        }
+    }
+
+    private OrderAdmissionState state(final OrderType type) {
+        final List<OrderAdmissionState> states = orderAdmissionService.findAllStates();
+        return states.stream()
+            .filter(state -> state.getType() == type)
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+    }
+
+    private static OrderSummary summary(final UUID id, final OrderType type, final OrderStatus status) {
+        return new OrderSummary(id, type, status, LocalDateTime.of(2021, 8, 1, 12, 0), null, null, 0L);
+    }
+}
@@ -0,0 +1,82 @@
+package kitchenpos.application;
+
+import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class OrderArchiveServiceTest {
+
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2021, 8, 1, 0, 0);
+    private static final int BATCH_SIZE = 2;
+
+    private final InMemoryOrderArchiveRepository orderArchiveRepository = new InMemoryOrderArchiveRepository();
+
+    private OrderArchiveService orderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        orderArchiveService = new OrderArchiveService(orderArchiveRepository);
+    }
+
+    @DisplayName("archive - 기준 시각 이전의 완료된 주문을 배치 크기만큼 보관 테이블로 옮긴다")
+    @Test
+    void archive() {
+        //given
+        final Order oldest = orderArchiveRepository.save(order(OrderStatus.COMPLETED, BEFORE.minusDays(3)));
+        final Order older = orderArchiveRepository.save(order(OrderStatus.COMPLETED, BEFORE.minusDays(2)));
+        orderArchiveRepository.save(order(OrderStatus.COMPLETED, BEFORE.minusDays(1)));
+
+        //when
+        final int sut = orderArchiveService.archive(BEFORE, BATCH_SIZE);
+
+        //then
+        assertAll(
+            () -> assertThat(sut).isEqualTo(BATCH_SIZE),
+            () -> assertThat(orderArchiveRepository.findAllArchived()).containsExactly(oldest, older),
+            () -> assertThat(orderArchiveRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("archive - 완료되지 않았거나 기준 시각 이후의 주문은 옮기지 않는다")
+    @Test
+    void archiveOnlyOldCompletedOrders() {
+        //given
+        orderArchiveRepository.save(order(OrderStatus.SERVED, BEFORE.minusDays(1)));
+        orderArchiveRepository.save(order(OrderStatus.COMPLETED, BEFORE.plusDays(1)));
+
+        //when
+        final int sut = orderArchiveService.archive(BEFORE, BATCH_SIZE);
+
+        //then
+        assertAll(
+            () -> assertThat(sut).isZero(),
+            () -> assertThat(orderArchiveRepository.findAllArchived()).isEmpty()
+        );
+    }
+
+    @DisplayName("archive - 배치 크기가 0 이하면 예외를 반환한다")
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void archiveInvalidBatchSize(final int batchSize) {
+        //when, then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> orderArchiveService.archive(BEFORE, batchSize));
+    }
+
+    private Order order(final OrderStatus status, final LocalDateTime orderDateTime) {
+        final Order order = ORDER_WITH_TYPE_AND_STATUS(OrderType.TAKEOUT, status);
+        order.setOrderDateTime(orderDateTime);
+        return order;
+    }
+}
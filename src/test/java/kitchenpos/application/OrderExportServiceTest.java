@@ -0,0 +1,103 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import kitchenpos.domain.OrderHistoryRow;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderExportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2021, 8, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2021, 8, 2, 0, 0);
+
+    private final InMemoryOrderHistoryRepository orderHistoryRepository = new InMemoryOrderHistoryRepository();
+
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportService(orderHistoryRepository);
+    }
+
+    @DisplayName("exportCsv - 기간 내 주문을 주문 상품 단위로 압축된 CSV로 내보낸다")
+    @Test
+    void exportCsv() throws IOException {
+        //given
+        final UUID orderId = UUID.randomUUID();
+        final UUID menuId = UUID.randomUUID();
+        orderHistoryRepository.save(row(orderId, FROM.plusHours(12), "서울시 \"강남구\", 역삼동", menuId, 2));
+        orderHistoryRepository.save(row(UUID.randomUUID(), TO, "서울시", menuId, 1));
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        orderExportService.exportCsv(FROM, TO, outputStream);
+
+        //then
+        final String[] lines = decompress(outputStream.toByteArray()).split("\n");
+        assertThat(lines).containsExactly(
+            "order_id,type,status,order_date_time,delivery_address,order_table_id,menu_id,menu_name,price,quantity",
+            orderId + ",DELIVERY,COMPLETED,2021-08-01T12:00,\"서울시 \"\"강남구\"\", 역삼동\",," + menuId + ",후라이드+후라이드,19000.50,2"
+        );
+    }
+
+    @DisplayName("exportCsv - 시작 시각이 종료 시각보다 늦으면 예외를 반환한다")
+    @Test
+    void exportCsvInvalidRange() {
+        //when, then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> orderExportService.exportCsv(TO, FROM, new ByteArrayOutputStream()));
+    }
+
+    @DisplayName("validateRange - 기간이 비어 있거나 시작 시각이 종료 시각보다 늦으면 예외를 반환한다")
+    @Test
+    void validateRange() {
+        //when, then
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> orderExportService.validateRange(TO, FROM)),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> orderExportService.validateRange(null, TO)),
+            () -> assertThatCode(() -> orderExportService.validateRange(FROM, TO)).doesNotThrowAnyException()
+        );
+    }
+
+    private OrderHistoryRow row(
+        final UUID orderId,
+        final LocalDateTime orderDateTime,
+        final String deliveryAddress,
+        final UUID menuId,
+        final long quantity
+    ) {
+        return new OrderHistoryRow(
+            orderId, OrderType.DELIVERY, OrderStatus.COMPLETED, orderDateTime, deliveryAddress, null, menuId,
+            "후라이드+후라이드", 1_900_050L, quantity
+        );
+    }
+
+    private String decompress(final byte[] bytes) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
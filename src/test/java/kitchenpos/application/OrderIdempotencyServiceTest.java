@@ -0,0 +1,236 @@
+package kitchenpos.application;
+
+import static kitchenpos.application.fixture.MenuFixture.MENU1;
+import static kitchenpos.application.fixture.MenuFixture.MENU2;
+import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS_REQUEST;
+import static kitchenpos.application.fixture.OrderTableFixture.NOT_EMPTY_TABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import kitchenpos.domain.IdempotencyKey;
+import kitchenpos.domain.IdempotencyKeyRepository;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionOperations;
+
+class OrderIdempotencyServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2021, 8, 1, 12, 0);
+    private static final long TTL = 60_000L;
+    private static final String KEY = "3f1c2a9e-6b7d-4e1a-9c55-0d8f2b7a4e61";
+
+    private final OrderRepository orderRepository = new InMemoryOrderRepository();
+    private final MenuRepository menuRepository = new InmemoryMenuRepository();
+    private final OrderTableRepository orderTableRepository = new InMemoryOrderTableRepository();
+    private final IdempotencyKeyRepository idempotencyKeyRepository = new InMemoryIdempotencyKeyRepository();
+
+    private OrderService orderService;
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderService(orderRepository, menuRepository, orderTableRepository, event -> {
+        });
+        orderIdempotencyService = newOrderIdempotencyService(10);
+        menuRepository.save(MENU1());
+        menuRepository.save(MENU2());
+        orderTableRepository.save(NOT_EMPTY_TABLE());
+    }
+
+    @DisplayName("create - 같은 멱등 키로 다시 요청하면 주문을 다시 만들지 않고 처음 만든 주문 아이디를 돌려준다")
+    @Test
+    void createRetry() {
+        //when
+        final UUID first = orderIdempotencyService.create(KEY, request(), NOW);
+        final UUID retried = orderIdempotencyService.create(KEY, request(), NOW.plusSeconds(10));
+
+        //then
+        assertAll(
+            () -> assertThat(retried).isEqualTo(first),
+            () -> assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(first)
+        );
+    }
+
+    @DisplayName("create - 다른 멱등 키로 요청하면 주문을 새로 만든다")
+    @Test
+    void createOtherKey() {
+        //when
+        final UUID first = orderIdempotencyService.create(KEY, request(), NOW);
+        final UUID other = orderIdempotencyService.create("other", request(), NOW);
+
+        //then
+        assertAll(
+            () -> assertThat(other).isNotEqualTo(first),
+            () -> assertThat(orderRepository.findAll()).hasSize(2)
+        );
+    }
+
+    @DisplayName("create - 메모리에 없는 멱등 키라도 저장소에 남아 있으면 처음 만든 주문 아이디를 돌려준다")
+    @Test
+    void createFromRepository() {
+        //given
+        final UUID first = orderIdempotencyService.create(KEY, request(), NOW);
+        final OrderIdempotencyService otherNode = newOrderIdempotencyService(10);
+
+        //when
+        final UUID sut = otherNode.create(KEY, request(), NOW.plusSeconds(10));
+
+        //then
+        assertAll(
+            () -> assertThat(sut).isEqualTo(first),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("create - 메모리에서 밀려난 멱등 키는 저장소에서 찾는다")
+    @Test
+    void createEvicted() {
+        //given
+        orderIdempotencyService = newOrderIdempotencyService(1);
+        final UUID first = orderIdempotencyService.create(KEY, request(), NOW);
+        orderIdempotencyService.create("other", request(), NOW);
+
+        //when
+        final UUID sut = orderIdempotencyService.create(KEY, request(), NOW);
+
+        //then
+        assertAll(
+            () -> assertThat(sut).isEqualTo(first),
+            () -> assertThat(orderRepository.findAll()).hasSize(2)
+        );
+    }
+
+    @DisplayName("create - 유효 기간이 지난 멱등 키로 요청하면 주문을 새로 만든다")
+    @Test
+    void createExpired() {
+        //given
+        final UUID first = orderIdempotencyService.create(KEY, request(), NOW);
+
+        //when
+        final UUID sut = orderIdempotencyService.create(KEY, request(), NOW.plusSeconds(61));
+
+        //then
+        assertAll(
+            () -> assertThat(sut).isNotEqualTo(first),
+            () -> assertThat(orderRepository.findAll()).hasSize(2),
+            () -> assertThat(idempotencyKeyRepository.findByKey(KEY))
+                .map(IdempotencyKey::getOrderId)
+                .hasValue(sut)
+        );
+    }
+
+    @DisplayName("create - 유효 기간이 지난 멱등 키를 다시 쓰면 그 키만 지우고 다른 만료된 키는 정리 작업에 남긴다")
+    @Test
+    void createExpiredKeepsOthers() {
+        //given
+        final String other = "7a0e5c1d-2f4b-4d8e-8b6a-1c3e5f7a9b2d";
+        orderIdempotencyService.create(KEY, request(), NOW);
+        final UUID otherOrderId = orderIdempotencyService.create(other, request(), NOW);
+
+        //when
+        orderIdempotencyService.create(KEY, request(), NOW.plusSeconds(61));
+
+        //then
+        assertThat(idempotencyKeyRepository.findByKey(other))
+            .map(IdempotencyKey::getOrderId)
+            .hasValue(otherOrderId);
+    }
+
+    @DisplayName("findOrderId - 유효 기간 안의 멱등 키만 이미 만든 주문 식별자를 돌려준다")
+    @Test
+    void findOrderId() {
+        //given
+        final UUID orderId = orderIdempotencyService.create(KEY, request(), NOW);
+
+        //when, then
+        assertAll(
+            () -> assertThat(orderIdempotencyService.findOrderId(KEY, NOW.plusSeconds(10))).hasValue(orderId),
+            () -> assertThat(orderIdempotencyService.findOrderId(KEY, NOW.plusSeconds(61))).isEmpty(),
+            () -> assertThat(orderIdempotencyService.findOrderId("unknown", NOW)).isEmpty(),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> orderIdempotencyService.findOrderId(" ", NOW))
+        );
+    }
+
+    @DisplayName("create - 주문 생성에 실패하면 멱등 키를 남기지 않는다")
+    @Test
+    void createFailed() {
+        //given
+        final Order request = request();
+        request.setType(null);
+
+        //when
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> orderIdempotencyService.create(KEY, request, NOW));
+
+        //then
+        assertThat(idempotencyKeyRepository.findByKey(KEY)).isEmpty();
+    }
+
+    @DisplayName("create - 멱등 키가 비어 있거나 너무 길면 IllegalArgumentException")
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    void createInvalidKey(final String key) {
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> orderIdempotencyService.create(key, request(), NOW)),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> orderIdempotencyService.create(repeat(256), request(), NOW)),
+            () -> assertThat(orderRepository.findAll()).isEmpty()
+        );
+    }
+
+    @DisplayName("purge - 유효 기간이 지난 멱등 키를 지운다")
+    @Test
+    void purge() {
+        //given
+        orderIdempotencyService.create(KEY, request(), NOW);
+        orderIdempotencyService.create("other", request(), NOW.plusSeconds(30));
+
+        //when
+        final int sut = orderIdempotencyService.purge(NOW.plusSeconds(61));
+
+        //then
+        assertAll(
+            () -> assertThat(sut).isOne(),
+            () -> assertThat(idempotencyKeyRepository.findByKey(KEY)).isEmpty(),
+            () -> assertThat(idempotencyKeyRepository.findByKey("other")).isPresent()
+        );
+    }
+
+    private OrderIdempotencyService newOrderIdempotencyService(final int cacheSize) {
+        return new OrderIdempotencyService(
+            orderService,
+            idempotencyKeyRepository,
+            TransactionOperations.withoutTransaction(),
+            TTL,
+            cacheSize
+        );
+    }
+
+    private static Order request() {
+        return ORDER_WITH_TYPE_AND_STATUS_REQUEST(OrderType.EAT_IN, OrderStatus.WAITING);
+    }
+
+    private static String repeat(final int length) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append('k');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,301 @@
+package kitchenpos.application;
+
+import static kitchenpos.application.fixture.MenuFixture.MENU1;
+import static kitchenpos.application.fixture.MenuFixture.MENU2;
+import static kitchenpos.application.fixture.OrderFixture.NULL_TYPE_ORDER_REQUEST;
+import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS_REQUEST;
+import static kitchenpos.application.fixture.OrderTableFixture.NOT_EMPTY_TABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+class OrderIngestionServiceTest {
+
+    private final OrderRepository orderRepository = new InMemoryOrderRepository();
+    private final MenuRepository menuRepository = new InmemoryMenuRepository();
+    private final OrderTableRepository orderTableRepository = new InMemoryOrderTableRepository();
+    private final FakeOrderBatchRepository orderBatchRepository = new FakeOrderBatchRepository(orderRepository);
+    private final List<Object> events = Collections.synchronizedList(new ArrayList<>());
+
+    private OrderService orderService;
+    private OrderIngestionService orderIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderService(orderRepository, menuRepository, orderTableRepository, events::add);
+        menuRepository.save(MENU1());
+        menuRepository.save(MENU2());
+        orderTableRepository.save(NOT_EMPTY_TABLE());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (orderIngestionService != null) {
+            orderBatchRepository.release();
+            orderIngestionService.stop();
+        }
+    }
+
+    @DisplayName("create - 동기 모드에서는 주문을 바로 저장한다")
+    @Test
+    void createSync() {
+        //given
+        orderIngestionService = newOrderIngestionService("sync", "flush", 8, 8);
+
+        //when
+        final Order sut = orderIngestionService.create(request());
+
+        //then
+        assertAll(
+            () -> assertThat(orderRepository.findById(sut.getId())).isPresent(),
+            () -> assertThat(orderBatchRepository.getBatchSizes()).isEmpty(),
+            () -> assertThat(events).hasSize(1)
+        );
+    }
+
+    @DisplayName("create - 쓰기 지연 모드에서 flush 응답이면 묶음으로 저장된 뒤 응답한다")
+    @Test
+    void createFlush() {
+        //given
+        orderIngestionService = newOrderIngestionService("write-behind", "flush", 8, 8);
+
+        //when
+        final Order sut = orderIngestionService.create(request());
+
+        //then
+        assertAll(
+            () -> assertThat(sut.getStatus()).isEqualTo(OrderStatus.WAITING),
+            () -> assertThat(orderRepository.findById(sut.getId())).isPresent(),
+            () -> assertThat(orderBatchRepository.getBatchSizes()).containsExactly(1),
+            () -> assertThat(events).hasOnlyElementsOfType(OrderCreatedEvent.class).hasSize(1)
+        );
+    }
+
+    @DisplayName("create - 동시에 들어온 주문을 한 번에 여러 건씩 묶어 저장한다")
+    @Test
+    void createGroupCommit() throws Exception {
+        //given
+        orderIngestionService = newOrderIngestionService("write-behind", "flush", 4096, 64);
+        orderBatchRepository.block();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<Order>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 800; i++) {
+            futures.add(executor.submit(() -> orderIngestionService.create(request())));
+        }
+        orderBatchRepository.awaitEntered();
+        orderBatchRepository.release();
+        final List<UUID> ids = new ArrayList<>();
+        for (final Future<Order> future : futures) {
+            ids.add(future.get().getId());
+        }
+        executor.shutdown();
+
+        //then
+        final List<Integer> batchSizes = orderBatchRepository.getBatchSizes();
+        assertAll(
+            () -> assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactlyInAnyOrderElementsOf(ids),
+            () -> assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(800),
+            () -> assertThat(batchSizes).hasSizeLessThan(800).allMatch(size -> size <= 64),
+            () -> assertThat(events).hasSize(800)
+        );
+    }
+
+    @DisplayName("create - 버퍼가 가득 차면 버퍼 기준의 재시도 시각을 담은 OrderRejectedException")
+    @Test
+    void createFull() throws InterruptedException {
+        //given
+        orderIngestionService = newOrderIngestionService("write-behind", "enqueue", 1, 1);
+        orderBatchRepository.block();
+        orderIngestionService.create(request());
+        orderBatchRepository.awaitEntered();
+        orderIngestionService.create(request());
+
+        //when
+        //then
+        assertAll(
+            () -> assertThat(catchThrowableOfType(() -> orderIngestionService.create(request()), OrderRejectedException.class).getRetryAfterSeconds())
+                .isEqualTo(1L),
+            () -> assertThat(orderIngestionService.getBacklog()).isOne()
+        );
+    }
+
+    @DisplayName("create - flush 응답 시간이 지나면 저장 중인 주문은 OrderPendingException, 버퍼에 남은 주문은 빼내고 OrderRejectedException")
+    @Test
+    void createFlushTimeout() throws InterruptedException {
+        //given
+        orderIngestionService = newOrderIngestionService("write-behind", "flush", 8, 8, 200L);
+        orderBatchRepository.block();
+        final OrderPendingException pending = catchThrowableOfType(() -> orderIngestionService.create(request()), OrderPendingException.class);
+        orderBatchRepository.awaitEntered();
+
+        //when
+        final OrderRejectedException rejected = catchThrowableOfType(() -> orderIngestionService.create(request()), OrderRejectedException.class);
+        orderBatchRepository.release();
+        orderIngestionService.stop();
+
+        //then
+        assertAll(
+            () -> assertThat(pending).isNotNull(),
+            () -> assertThat(rejected.getRetryAfterSeconds()).isEqualTo(1L),
+            () -> assertThat(orderIngestionService.getBacklog()).isZero(),
+            () -> assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(pending.getOrderId())
+        );
+    }
+
+    @DisplayName("create - 저장에 실패한 주문이 있으면 묶음을 한 건씩 다시 저장해 나머지 주문은 남긴다")
+    @Test
+    void createFailedBatch() throws InterruptedException {
+        //given
+        orderIngestionService = newOrderIngestionService("write-behind", "enqueue", 8, 8);
+        orderBatchRepository.block();
+        final Order first = orderIngestionService.create(request());
+        orderBatchRepository.awaitEntered();
+        final Order second = orderIngestionService.create(request());
+        final Order failing = orderIngestionService.create(request());
+        final Order third = orderIngestionService.create(request());
+        orderBatchRepository.fail(failing.getId());
+
+        //when
+        orderBatchRepository.release();
+        orderIngestionService.stop();
+
+        //then
+        assertAll(
+            () -> assertThat(orderRepository.findAll())
+                .extracting(Order::getId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId(), third.getId()),
+            () -> assertThat(events).hasSize(3)
+        );
+    }
+
+    @DisplayName("create - 올바르지 않은 주문은 버퍼에 넣기 전에 IllegalArgumentException")
+    @Test
+    void createInvalid() {
+        //given
+        orderIngestionService = newOrderIngestionService("write-behind", "enqueue", 8, 8);
+
+        //when
+        //then
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> orderIngestionService.create(NULL_TYPE_ORDER_REQUEST())),
+            () -> assertThat(orderIngestionService.getBacklog()).isZero()
+        );
+    }
+
+    @DisplayName("stop - 멈출 때 버퍼에 남은 주문을 모두 저장한다")
+    @Test
+    void stop() throws InterruptedException {
+        //given
+        orderIngestionService = newOrderIngestionService("write-behind", "enqueue", 64, 8);
+        for (int i = 0; i < 20; i++) {
+            orderIngestionService.create(request());
+        }
+
+        //when
+        orderIngestionService.stop();
+
+        //then
+        assertAll(
+            () -> assertThat(orderRepository.findAll()).hasSize(20),
+            () -> assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> orderIngestionService.create(request()))
+        );
+    }
+
+    @DisplayName("stop - 멈추는 동안 들어온 주문도 받았다고 응답했다면 모두 저장한다")
+    @Test
+    void stopWhileCreating() throws Exception {
+        //given
+        orderIngestionService = newOrderIngestionService("write-behind", "enqueue", 4096, 64);
+        final List<UUID> ids = Collections.synchronizedList(new ArrayList<>());
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                while (true) {
+                    try {
+                        ids.add(orderIngestionService.create(request()).getId());
+                    } catch (final OrderRejectedException e) {
+                        Thread.yield();
+                    } catch (final IllegalStateException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+        Thread.sleep(50L);
+
+        //when
+        orderIngestionService.stop();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    private OrderIngestionService newOrderIngestionService(
+        final String mode,
+        final String ack,
+        final int capacity,
+        final int batchSize
+    ) {
+        return newOrderIngestionService(mode, ack, capacity, batchSize, 5_000L);
+    }
+
+    private OrderIngestionService newOrderIngestionService(
+        final String mode,
+        final String ack,
+        final int capacity,
+        final int batchSize,
+        final long flushTimeoutMillis
+    ) {
+        final OrderIngestionService service = new OrderIngestionService(
+            orderService,
+            orderBatchRepository,
+            TransactionOperations.withoutTransaction(),
+            events::add,
+            new SimpleMeterRegistry(),
+            mode,
+            ack,
+            capacity,
+            batchSize,
+            0L,
+            flushTimeoutMillis,
+            1L
+        );
+        service.start();
+        return service;
+    }
+
+    private static Order request() {
+        return ORDER_WITH_TYPE_AND_STATUS_REQUEST(OrderType.EAT_IN, OrderStatus.WAITING);
+    }
+}
@@ -23,15 +23,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreatedEvent;
 import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
 import kitchenpos.domain.OrderTableRepository;
 import kitchenpos.domain.OrderType;
-import kitchenpos.infra.KitchenridersClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,13 +52,13 @@ class OrderServiceTest {
     private final OrderRepository orderRepository = new InMemoryOrderRepository();
     private final MenuRepository menuRepository = new InmemoryMenuRepository();
     private final OrderTableRepository orderTableRepository = new InMemoryOrderTableRepository();
-    private final KitchenridersClient kitchenridersClient = new KitchenridersClient();
+    private final List<Object> events = new ArrayList<>();
 
     private OrderService orderService;
 
     @BeforeEach
     void setUp() {
-        orderService = new OrderService(orderRepository, menuRepository, orderTableRepository, kitchenridersClient);
+        orderService = new OrderService(orderRepository, menuRepository, orderTableRepository, events::add);
     }
 
     @DisplayName("create - 주문할 수 있다. 성공시 주문 상태는 대기")
@@ -78,6 +82,56 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("create - 주문 금액과 주문 상품별 메뉴 가격을 최소 화폐 단위로 저장한다")
+    @Test
+    void createAmounts() {
+        //given
+        final Order orderRequest = ORDER_WITH_TYPE_AND_STATUS_REQUEST(OrderType.EAT_IN, OrderStatus.WAITING);
+
+        menuRepository.save(MENU1());
+        menuRepository.save(MENU2());
+        orderTableRepository.save(NOT_EMPTY_TABLE());
+
+        //when
+        final Order sut = orderService.create(orderRequest);
+
+        //then
+        assertAll(
+            () -> assertThat(sut.getOrderLineItems()
+                .get(ZERO)
+                .getPriceAmount()).isEqualTo(2_000_000L),
+            () -> assertThat(sut.getOrderLineItems()
+                .get(ONE)
+                .getPriceAmount()).isEqualTo(3_000_000L),
+            () -> assertThat(sut.getTotalAmount()).isEqualTo(2_000_000L * 2 + 3_000_000L * 3),
+            () -> assertThat(sut.getOrderLineItems()
+                .get(ZERO)
+                .getMenuName()).isEqualTo(MENU1().getName())
+        );
+    }
+
+    @DisplayName("create - 주문이 생성되면 주문 생성 이벤트를 발행한다")
+    @Test
+    void createPublishesEvent() {
+        //given
+        final Order orderRequest = ORDER_WITH_TYPE_AND_STATUS_REQUEST(OrderType.EAT_IN, OrderStatus.WAITING);
+
+        menuRepository.save(MENU1());
+        menuRepository.save(MENU2());
+        orderTableRepository.save(NOT_EMPTY_TABLE());
+
+        //when
+        final Order sut = orderService.create(orderRequest);
+
+        //then
+        assertThat(events).singleElement()
+            .isInstanceOfSatisfying(OrderCreatedEvent.class, event -> assertAll(
+                () -> assertThat(event.getOrder().getId()).isEqualTo(sut.getId()),
+                () -> assertThat(event.getOrder().getStatus()).isEqualTo(OrderStatus.WAITING),
+                () -> assertThat(event.getOrder().getOrderLineItems()).hasSize(sut.getOrderLineItems().size())
+            ));
+    }
+
     @DisplayName("create - 주문타입이 없으면 예외를 반환한다")
     @Test
     void createNoType() {
@@ -224,6 +278,43 @@ class OrderServiceTest {
         assertThat(sut.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
     }
 
+    @DisplayName("accept - 주문이 승인되면 주문 항목 없이 이전 상태를 담은 주문 상태 변경 이벤트를 발행한다")
+    @Test
+    void acceptPublishesEvent() {
+        //given
+        final Order order = NORMAL_ORDER();
+
+        orderRepository.save(order);
+
+        //when
+        orderService.accept(order.getId());
+
+        //then
+        assertThat(events).singleElement()
+            .isInstanceOfSatisfying(OrderStatusChangedEvent.class, event -> assertAll(
+                () -> assertThat(event.getOrder().getId()).isEqualTo(order.getId()),
+                () -> assertThat(event.getOrder().getStatus()).isEqualTo(OrderStatus.ACCEPTED),
+                () -> assertThat(event.getOrder().getOrderLineItems()).isEmpty(),
+                () -> assertThat(event.getPreviousStatus()).isEqualTo(OrderStatus.WAITING)
+            ));
+    }
+
+    @DisplayName("accept - 주문상태가 대기가 아니면 예외를 반환하고 이벤트를 발행하지 않는다")
+    @Test
+    void acceptWrongStatusPublishesNothing() {
+        //given
+        final Order order = ORDER_WITH_TYPE_AND_STATUS(OrderType.EAT_IN, OrderStatus.SERVED);
+
+        orderRepository.save(order);
+
+        //when
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> orderService.accept(order.getId()));
+
+        //then
+        assertThat(events).isEmpty();
+    }
+
     @DisplayName("accept - 주문이 존재하지 않으면 예외를 반환한다")
     @Test
     void acceptNotExistOrder() {
@@ -498,4 +589,63 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("findAllSummaries - 주문 리스트를 필요한 필드만 조회할 수 있다")
+    @Test
+    void findAllSummaries() {
+        //given
+        final Order order = orderRepository.save(NORMAL_ORDER());
+        orderRepository.save(NORMAL_ORDER2());
+
+        //when
+        final List<OrderSummary> sut = orderService.findAllSummaries();
+
+        //then
+        assertAll(
+            () -> assertThat(sut).hasSize(ORDERS().size()),
+            () -> assertThat(sut.get(ZERO)
+                .getId()).isEqualTo(order.getId()),
+            () -> assertThat(sut.get(ZERO)
+                .getOrderLineItems()).hasSize(order.getOrderLineItems().size()),
+            () -> assertThat(sut.get(ZERO)
+                .getOrderLineItems()
+                .get(ZERO)
+                .getMenuId()).isEqualTo(MENU1().getId())
+        );
+    }
+
+    @DisplayName("findAllSummaries - 주문 일시가 기간 내인 주문만 조회할 수 있다")
+    @Test
+    void findAllSummariesBetween() {
+        //given
+        final LocalDateTime from = LocalDateTime.of(2021, 8, 1, 0, 0);
+        final LocalDateTime to = from.plusDays(ONE);
+        final Order order = NORMAL_ORDER();
+        order.setOrderDateTime(from);
+        final Order yesterdayOrder = NORMAL_ORDER2();
+        yesterdayOrder.setOrderDateTime(from.minusDays(ONE));
+        orderRepository.save(order);
+        orderRepository.save(yesterdayOrder);
+
+        //when
+        final List<OrderSummary> sut = orderService.findAllSummaries(from, to);
+
+        //then
+        assertAll(
+            () -> assertThat(sut).hasSize(ONE),
+            () -> assertThat(sut.get(ZERO)
+                .getId()).isEqualTo(order.getId())
+        );
+    }
+
+    @DisplayName("findAllSummaries - 조회 시작 일시가 종료 일시보다 늦으면 예외를 반환한다")
+    @Test
+    void findAllSummariesInvalidRange() {
+        //given
+        final LocalDateTime from = LocalDateTime.of(2021, 8, 1, 0, 0);
+
+        //when, then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> orderService.findAllSummaries(from, from.minusDays(ONE)));
+    }
+
 }
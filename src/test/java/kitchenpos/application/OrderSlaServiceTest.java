@@ -0,0 +1,115 @@
+package kitchenpos.application;
+
+import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderSlaBreach;
+import kitchenpos.domain.OrderSlaBreachedEvent;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderSlaServiceTest {
+
+    private final OrderRepository orderRepository = new InMemoryOrderRepository();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Object> events = new ArrayList<>();
+
+    private OrderSlaService orderSlaService;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        orderSlaService = new OrderSlaService(orderRepository, events::add, meterRegistry, 10L, 30L, 1_000L);
+        now = LocalDateTime.now();
+    }
+
+    @DisplayName("expire - 대기 상태로 제한 시간을 넘긴 주문을 알리고 지표를 올린다")
+    @Test
+    void expire() {
+        //given
+        final Order order = order(OrderStatus.WAITING, now.minusMinutes(5));
+        orderSlaService.onOrderCreated(new OrderCreatedEvent(OrderSummary.from(order)));
+
+        //when
+        orderSlaService.expire(now.plusMinutes(4));
+        final List<Object> beforeDeadline = new ArrayList<>(events);
+        orderSlaService.expire(now.plusMinutes(6));
+
+        //then
+        assertAll(
+            () -> assertThat(beforeDeadline).isEmpty(),
+            () -> assertThat(events).hasSize(1),
+            () -> assertThat(((OrderSlaBreachedEvent) events.get(0)).getBreach().getOrderId()).isEqualTo(order.getId()),
+            () -> assertThat(orderSlaService.findAllBreaches())
+                .extracting(OrderSlaBreach::getOrderId, OrderSlaBreach::getStatus)
+                .containsExactly(tuple(order.getId(), OrderStatus.WAITING)),
+            () -> assertThat(meterRegistry.counter("kitchenpos.orders.sla.breaches", "status", "WAITING").count())
+                .isEqualTo(1.0)
+        );
+    }
+
+    @DisplayName("enter - 상태가 바뀌면 새 상태의 제한 시간으로 다시 감시하고, 감시 대상이 아닌 상태면 감시를 멈춘다")
+    @Test
+    void enter() {
+        //given
+        final Order accepted = order(OrderStatus.WAITING, now);
+        final Order served = order(OrderStatus.WAITING, now);
+        orderSlaService.onOrderCreated(new OrderCreatedEvent(OrderSummary.from(accepted)));
+        orderSlaService.onOrderCreated(new OrderCreatedEvent(OrderSummary.from(served)));
+        accepted.setStatus(OrderStatus.ACCEPTED);
+        served.setStatus(OrderStatus.SERVED);
+
+        //when
+        orderSlaService.enter(OrderSummary.from(accepted), now.plusMinutes(5));
+        orderSlaService.onOrderStatusChanged(new OrderStatusChangedEvent(OrderSummary.withoutOrderLineItems(served), OrderStatus.ACCEPTED));
+        orderSlaService.expire(now.plusMinutes(30));
+        final List<Object> beforeDeadline = new ArrayList<>(events);
+        orderSlaService.expire(now.plusMinutes(36));
+
+        //then
+        assertAll(
+            () -> assertThat(beforeDeadline).isEmpty(),
+            () -> assertThat(orderSlaService.findAllBreaches())
+                .extracting(OrderSlaBreach::getOrderId, OrderSlaBreach::getStatus)
+                .containsExactly(tuple(accepted.getId(), OrderStatus.ACCEPTED))
+        );
+    }
+
+    @DisplayName("rebuild - 열린 주문을 주문 일시 기준으로 다시 감시하고, 완료된 주문은 감시하지 않는다")
+    @Test
+    void rebuild() {
+        //given
+        final Order waiting = orderRepository.save(order(OrderStatus.WAITING, now.minusMinutes(20)));
+        orderRepository.save(order(OrderStatus.COMPLETED, now.minusMinutes(20)));
+
+        //when
+        orderSlaService.rebuild();
+        orderSlaService.expire(now.plusSeconds(2));
+
+        //then
+        assertThat(orderSlaService.findAllBreaches())
+            .extracting(OrderSlaBreach::getOrderId)
+            .containsExactly(waiting.getId());
+    }
+
+    private Order order(final OrderStatus status, final LocalDateTime orderDateTime) {
+        final Order order = ORDER_WITH_TYPE_AND_STATUS(OrderType.TAKEOUT, status);
+        order.setOrderDateTime(orderDateTime);
+        return order;
+    }
+}
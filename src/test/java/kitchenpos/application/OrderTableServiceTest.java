@@ -1,5 +1,7 @@
 package kitchenpos.application;
 
+import static kitchenpos.application.fixture.MenuFixture.MENU1;
+import static kitchenpos.application.fixture.MenuFixture.MENU2;
 import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS_AND_TABLE;
 import static kitchenpos.application.fixture.OrderTableFixture.NOT_EMPTY_TABLE;
 import static kitchenpos.application.fixture.OrderTableFixture.NOT_EMPTY_TABLE_WITH_GUESTS_REQUEST;
@@ -9,14 +11,22 @@ import static kitchenpos.application.fixture.OrderTableFixture.ORDER_TABLE2;
 import static kitchenpos.application.fixture.OrderTableFixture.ORDER_TABLES;
 import static kitchenpos.application.fixture.OrderTableFixture.ORDER_TABLE_WITH_NAME_REQUEST;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.UUID;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableBill;
+import kitchenpos.domain.OrderTableBillLine;
 import kitchenpos.domain.OrderTableRepository;
 import kitchenpos.domain.OrderType;
 import org.junit.jupiter.api.BeforeEach;
@@ -230,4 +240,44 @@ class OrderTableServiceTest {
         );
     }
 
+    @DisplayName("bill - 테이블의 완료되지 않은 주문을 메뉴별로 합산한 계산서를 조회할 수 있다")
+    @Test
+    void bill() {
+        //given
+        final OrderTable orderTable = orderTableRepository.save(NOT_EMPTY_TABLE());
+        orderRepository.save(pricedOrder(OrderStatus.WAITING, orderTable));
+        orderRepository.save(pricedOrder(OrderStatus.SERVED, orderTable));
+        orderRepository.save(pricedOrder(OrderStatus.COMPLETED, orderTable));
+
+        //when
+        final OrderTableBill sut = orderTableService.bill(orderTable.getId());
+
+        //then
+        assertAll(
+            () -> assertThat(sut.getOrderTableId()).isEqualTo(orderTable.getId()),
+            () -> assertThat(sut.getLines())
+                .extracting(OrderTableBillLine::getMenuId, OrderTableBillLine::getQuantity, OrderTableBillLine::getAmount)
+                .containsExactly(
+                    tuple(MENU1().getId(), 4L, new BigDecimal("80000.00")),
+                    tuple(MENU2().getId(), 6L, new BigDecimal("180000.00"))
+                ),
+            () -> assertThat(sut.getTotalAmount()).isEqualTo(new BigDecimal("260000.00"))
+        );
+    }
+
+    @DisplayName("bill - 테이블이 존재하지 않으면 예외를 반환한다")
+    @Test
+    void billNotExistTable() {
+        //when, then
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> orderTableService.bill(UUID.randomUUID()));
+    }
+
+    private Order pricedOrder(final OrderStatus status, final OrderTable orderTable) {
+        final Order order = ORDER_WITH_TYPE_AND_STATUS_AND_TABLE(OrderType.EAT_IN, status, orderTable);
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            orderLineItem.setPriceAmount(Money.of(orderLineItem.getPrice()).getAmount());
+        }
+        return order;
+    }
 }
@@ -0,0 +1,124 @@
+package kitchenpos.application;
+
+import static kitchenpos.application.fixture.MenuFixture.MENU1;
+import static kitchenpos.application.fixture.MenuFixture.MENU2;
+import static kitchenpos.application.fixture.OrderFixture.ORDER_WITH_TYPE_AND_STATUS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import kitchenpos.domain.SalesDimension;
+import kitchenpos.domain.SalesRollup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SalesRollupServiceTest {
+
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2021, 8, 1, 12, 34);
+    private static final LocalDateTime BUCKET_HOUR = LocalDateTime.of(2021, 8, 1, 12, 0);
+    private static final LocalDateTime FROM = LocalDateTime.of(2021, 8, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    private final InMemorySalesRollupRepository salesRollupRepository = new InMemorySalesRollupRepository();
+    private final MenuRepository menuRepository = new InmemoryMenuRepository();
+    private final OrderRepository orderRepository = new InMemoryOrderRepository();
+
+    private SalesRollupService salesRollupService;
+
+    @BeforeEach
+    void setUp() {
+        salesRollupService = new SalesRollupService(salesRollupRepository, menuRepository, orderRepository);
+        menuRepository.save(MENU1());
+        menuRepository.save(MENU2());
+    }
+
+    @DisplayName("onOrderStatusChanged - 완료된 주문의 매출을 시간대별 메뉴, 메뉴 그룹 단위로 집계한다")
+    @Test
+    void onOrderStatusChanged() {
+        //when
+        salesRollupService.onOrderStatusChanged(completed());
+
+        //then
+        final List<SalesRollup> sut = salesRollupService.findAll(FROM, TO);
+        assertThat(sut)
+            .extracting(SalesRollup::getBucketHour, SalesRollup::getDimension, SalesRollup::getDimensionId,
+                SalesRollup::getQuantity, SalesRollup::getAmount)
+            .containsExactly(
+                tuple(BUCKET_HOUR, SalesDimension.MENU, MENU2().getId(), 3L, new BigDecimal("90000.00")),
+                tuple(BUCKET_HOUR, SalesDimension.MENU, MENU1().getId(), 2L, new BigDecimal("40000.00")),
+                tuple(BUCKET_HOUR, SalesDimension.MENU_GROUP, MENU2().getMenuGroupId(), 3L, new BigDecimal("90000.00")),
+                tuple(BUCKET_HOUR, SalesDimension.MENU_GROUP, MENU1().getMenuGroupId(), 2L, new BigDecimal("40000.00"))
+            );
+    }
+
+    @DisplayName("onOrderStatusChanged - 완료되지 않은 주문은 집계하지 않는다")
+    @Test
+    void onOrderStatusChangedNotCompleted() {
+        //given
+        final Order order = order();
+        order.setStatus(OrderStatus.SERVED);
+
+        //when
+        salesRollupService.onOrderStatusChanged(new OrderStatusChangedEvent(OrderSummary.withoutOrderLineItems(order), OrderStatus.ACCEPTED));
+
+        //then
+        assertThat(salesRollupService.findAll(FROM, TO)).isEmpty();
+    }
+
+    @DisplayName("flush - 메모리의 집계를 저장소에 누적하고, 저장된 집계와 새 집계를 합쳐 조회한다")
+    @Test
+    void flush() {
+        //given
+        salesRollupService.onOrderStatusChanged(completed());
+
+        //when
+        salesRollupService.flush();
+        salesRollupService.onOrderStatusChanged(completed());
+
+        //then
+        final List<SalesRollup> sut = salesRollupService.findAll(FROM, TO);
+        assertAll(
+            () -> assertThat(salesRollupRepository.size()).isEqualTo(4),
+            () -> assertThat(sut)
+                .filteredOn(rollup -> rollup.getDimensionId().equals(MENU1().getId()))
+                .extracting(SalesRollup::getQuantity, SalesRollup::getAmount)
+                .containsExactly(tuple(4L, new BigDecimal("80000.00")))
+        );
+    }
+
+    @DisplayName("findAll - 조회 시작 일시가 종료 일시보다 늦으면 예외를 반환한다")
+    @Test
+    void findAllInvalidRange() {
+        //when, then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> salesRollupService.findAll(TO, FROM));
+    }
+
+    private OrderStatusChangedEvent completed() {
+        final Order order = orderRepository.save(order());
+        return new OrderStatusChangedEvent(OrderSummary.withoutOrderLineItems(order), OrderStatus.SERVED);
+    }
+
+    private Order order() {
+        final Order order = ORDER_WITH_TYPE_AND_STATUS(OrderType.TAKEOUT, OrderStatus.COMPLETED);
+        order.setOrderDateTime(ORDER_DATE_TIME);
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            orderLineItem.setPriceAmount(Money.of(orderLineItem.getPrice()).getAmount());
+        }
+        return order;
+    }
+}
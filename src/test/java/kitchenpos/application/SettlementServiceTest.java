@@ -0,0 +1,128 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import kitchenpos.domain.OrderHistoryRow;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import kitchenpos.domain.Settlement;
+import kitchenpos.domain.SettlementDimension;
+import kitchenpos.domain.SettlementLine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SettlementServiceTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2021, 8, 1);
+    private static final LocalDateTime NOON = BUSINESS_DATE.atTime(12, 0);
+    private static final UUID MENU_ID1 = UUID.randomUUID();
+    private static final UUID MENU_ID2 = UUID.randomUUID();
+    private static final UUID ORDER_TABLE_ID = UUID.randomUUID();
+
+    private final InMemoryOrderHistoryRepository orderHistoryRepository = new InMemoryOrderHistoryRepository();
+    private final InMemorySettlementRepository settlementRepository = new InMemorySettlementRepository();
+
+    private SettlementService settlementService;
+
+    @AfterEach
+    void tearDown() {
+        settlementService.close();
+    }
+
+    @DisplayName("settle - 영업일의 주문을 주문 유형, 메뉴, 테이블별로 집계해 정산을 저장한다")
+    @Test
+    void settle() {
+        //given
+        settlementService = new SettlementService(orderHistoryRepository, settlementRepository, 2, 1);
+        final UUID eatInOrderId = UUID.randomUUID();
+        final UUID deliveryOrderId = UUID.randomUUID();
+        orderHistoryRepository.save(row(eatInOrderId, OrderType.EAT_IN, NOON, ORDER_TABLE_ID, MENU_ID1, 1_600_000L, 2));
+        orderHistoryRepository.save(row(eatInOrderId, OrderType.EAT_IN, NOON, ORDER_TABLE_ID, MENU_ID2, 1_000_000L, 1));
+        orderHistoryRepository.save(row(deliveryOrderId, OrderType.DELIVERY, NOON.plusHours(1), null, MENU_ID1, 1_600_000L, 1));
+        orderHistoryRepository.save(row(UUID.randomUUID(), OrderType.TAKEOUT, NOON.plusDays(1), null, MENU_ID1, 1_600_000L, 5));
+
+        //when
+        final Settlement sut = settlementService.settle(BUSINESS_DATE);
+
+        //then
+        assertAll(
+            () -> assertThat(sut.getOrderCount()).isEqualTo(2L),
+            () -> assertThat(sut.getQuantity()).isEqualTo(4L),
+            () -> assertThat(sut.getAmount()).isEqualTo(new BigDecimal("58000.00")),
+            () -> assertThat(sut.getLines())
+                .extracting(SettlementLine::getDimension, SettlementLine::getDimensionKey, SettlementLine::getOrderCount,
+                    SettlementLine::getAmount)
+                .containsExactly(
+                    tuple(SettlementDimension.ORDER_TYPE, OrderType.EAT_IN.name(), 1L, new BigDecimal("42000.00")),
+                    tuple(SettlementDimension.ORDER_TYPE, OrderType.DELIVERY.name(), 1L, new BigDecimal("16000.00")),
+                    tuple(SettlementDimension.MENU, MENU_ID1.toString(), 2L, new BigDecimal("48000.00")),
+                    tuple(SettlementDimension.MENU, MENU_ID2.toString(), 1L, new BigDecimal("10000.00")),
+                    tuple(SettlementDimension.ORDER_TABLE, ORDER_TABLE_ID.toString(), 1L, new BigDecimal("42000.00"))
+                ),
+            () -> assertThat(settlementService.findByBusinessDate(BUSINESS_DATE)).isSameAs(sut)
+        );
+    }
+
+    @DisplayName("settle - 청크 크기와 관계없이 같은 정산 결과를 만든다")
+    @Test
+    void settleIndependentOfChunkSize() {
+        //given
+        for (int order = 0; order < 10_000; order++) {
+            final UUID orderId = UUID.randomUUID();
+            final OrderType type = OrderType.values()[order % OrderType.values().length];
+            for (int line = 0; line < 1 + order % 3; line++) {
+                orderHistoryRepository.save(row(orderId, type, NOON, null, line % 2 == 0 ? MENU_ID1 : MENU_ID2, 100L * (line + 1), line + 1));
+            }
+        }
+        settlementService = new SettlementService(orderHistoryRepository, settlementRepository, 1, Integer.MAX_VALUE);
+        final Settlement sequential = settlementService.settle(BUSINESS_DATE);
+        settlementService.close();
+        settlementService = new SettlementService(orderHistoryRepository, settlementRepository, 4, 7);
+
+        //when
+        final Settlement sut = settlementService.settle(BUSINESS_DATE);
+
+        //then
+        assertAll(
+            () -> assertThat(sut.getOrderCount()).isEqualTo(10_000L),
+            () -> assertThat(sut.getAmount()).isEqualTo(sequential.getAmount()),
+            () -> assertThat(sut.getLines())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sequential.getLines())
+        );
+    }
+
+    @DisplayName("findByBusinessDate - 정산되지 않은 영업일이면 예외를 반환한다")
+    @Test
+    void findByBusinessDateNotSettled() {
+        //given
+        settlementService = new SettlementService(orderHistoryRepository, settlementRepository, 1, 1);
+
+        //when, then
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> settlementService.findByBusinessDate(BUSINESS_DATE));
+    }
+
+    private OrderHistoryRow row(
+        final UUID orderId,
+        final OrderType type,
+        final LocalDateTime orderDateTime,
+        final UUID orderTableId,
+        final UUID menuId,
+        final long priceAmount,
+        final long quantity
+    ) {
+        return new OrderHistoryRow(
+            orderId, type, OrderStatus.COMPLETED, orderDateTime, null, orderTableId, menuId, null, priceAmount, quantity
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @DisplayName("of - 소수점 둘째 자리까지의 금액을 최소 단위로 보관한다")
+    @Test
+    void of() {
+        //when
+        final Money sut = Money.of(new BigDecimal("16000.50"));
+
+        //then
+        assertAll(
+            () -> assertThat(sut.getAmount()).isEqualTo(1600050L),
+            () -> assertThat(sut.toBigDecimal()).isEqualTo(new BigDecimal("16000.50")),
+            () -> assertThat(Money.of(BigDecimal.valueOf(16000L)).toBigDecimal()).isEqualTo(new BigDecimal("16000.00"))
+        );
+    }
+
+    @DisplayName("of - 소수점 셋째 자리 이하의 금액이 있으면 예외가 발생한다")
+    @Test
+    void ofWithFraction() {
+        //when, then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> Money.of(new BigDecimal("0.001")));
+    }
+
+    @DisplayName("plus, times - 금액을 더하고 수량을 곱할 수 있다")
+    @Test
+    void arithmetic() {
+        //given
+        final Money price = Money.of(BigDecimal.valueOf(16000L));
+
+        //when
+        final Money sut = price.times(2L).plus(Money.ofMinor(50L));
+
+        //then
+        assertAll(
+            () -> assertThat(sut).isEqualTo(Money.of(new BigDecimal("32000.50"))),
+            () -> assertThat(sut.isGreaterThan(price)).isTrue(),
+            () -> assertThat(Money.ofMinor(-1L).isNegative()).isTrue()
+        );
+    }
+
+    @DisplayName("plus, times - 금액이 표현 범위를 넘으면 예외가 발생한다")
+    @Test
+    void overflow() {
+        //given
+        final Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        //when, then
+        assertAll(
+            () -> assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> max.plus(Money.ofMinor(1L))),
+            () -> assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> max.times(2L))
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class OrderStateMachineTest {
+
+    private static final Set<String> LEGAL_TRANSITIONS = new HashSet<>(Arrays.asList(
+        "DELIVERY,WAITING,ACCEPTED",
+        "DELIVERY,ACCEPTED,SERVED",
+        "DELIVERY,SERVED,DELIVERING",
+        "DELIVERY,DELIVERING,DELIVERED",
+        "DELIVERY,DELIVERED,COMPLETED",
+        "TAKEOUT,WAITING,ACCEPTED",
+        "TAKEOUT,ACCEPTED,SERVED",
+        "TAKEOUT,SERVED,COMPLETED",
+        "EAT_IN,WAITING,ACCEPTED",
+        "EAT_IN,ACCEPTED,SERVED",
+        "EAT_IN,SERVED,COMPLETED"
+    ));
+
+    @DisplayName("sourceOf - 주문 타입과 상태의 모든 조합에 대해 허용된 전이의 이전 상태만 반환한다")
+    @ParameterizedTest(name = "{0}: {1} -> {2}")
+    @MethodSource("allTransitions")
+    void sourceOfAllTransitions(final OrderType type, final OrderStatus from, final OrderStatus to) {
+        //when
+        final OrderStatus sut = OrderStateMachine.sourceOf(type, to);
+
+        //then
+        assertThat(sut == from).isEqualTo(LEGAL_TRANSITIONS.contains(type + "," + from + "," + to));
+    }
+
+    @DisplayName("sourceOf - 완료 전이는 주문 타입에 따라 이전 상태가 다르다")
+    @Test
+    void sourceOf() {
+        assertAll(
+            () -> assertThat(OrderStateMachine.sourceOf(OrderType.EAT_IN, OrderStatus.WAITING)).isNull(),
+            () -> assertThat(OrderStateMachine.sourceOf(OrderType.TAKEOUT, OrderStatus.DELIVERING)).isNull(),
+            () -> assertThat(OrderStateMachine.sourceOf(OrderType.DELIVERY, OrderStatus.COMPLETED)).isEqualTo(OrderStatus.DELIVERED),
+            () -> assertThat(OrderStateMachine.sourceOf(OrderType.TAKEOUT, OrderStatus.COMPLETED)).isEqualTo(OrderStatus.SERVED),
+            () -> assertThat(OrderStateMachine.sourceOf(OrderType.EAT_IN, OrderStatus.COMPLETED)).isEqualTo(OrderStatus.SERVED)
+        );
+    }
+
+    private static List<Arguments> allTransitions() {
+        final List<Arguments> arguments = new ArrayList<>();
+        for (final OrderType type : OrderType.values()) {
+            for (final OrderStatus from : OrderStatus.values()) {
+                for (final OrderStatus to : OrderStatus.values()) {
+                    arguments.add(Arguments.of(type, from, to));
+                }
+            }
+        }
+        return arguments;
+    }
+}
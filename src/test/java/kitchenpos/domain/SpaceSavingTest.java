@@ -0,0 +1,114 @@
+package kitchenpos.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTest {
+
+    @DisplayName("add - 용량 안에서는 정확한 수량을 센다")
+    @Test
+    void add() {
+        //given
+        final SpaceSaving<String> sut = new SpaceSaving<>(3);
+
+        //when
+        sut.add("후라이드", 2L);
+        sut.add("양념", 1L);
+        sut.add("후라이드", 3L);
+
+        //then
+        assertAll(
+            () -> assertThat(sut.getMinCount()).isZero(),
+            () -> assertThat(sut.getCounters())
+                .extracting(SpaceSaving.Counter::getKey, SpaceSaving.Counter::getCount, SpaceSaving.Counter::getError)
+                .containsExactly(tuple("후라이드", 5L, 0L), tuple("양념", 1L, 0L))
+        );
+    }
+
+    @DisplayName("add - 용량을 넘으면 가장 적게 센 항목을 내보내고 그 수량을 오차로 물려받는다")
+    @Test
+    void addOverCapacity() {
+        //given
+        final SpaceSaving<String> sut = new SpaceSaving<>(2);
+        sut.add("후라이드", 3L);
+        sut.add("양념", 1L);
+
+        //when
+        final String evicted = sut.add("간장", 2L);
+
+        //then
+        assertAll(
+            () -> assertThat(evicted).isEqualTo("양념"),
+            () -> assertThat(sut.contains("양념")).isFalse(),
+            () -> assertThat(sut.getMinCount()).isEqualTo(3L),
+            () -> assertThat(sut.getCounters())
+                .extracting(SpaceSaving.Counter::getKey, SpaceSaving.Counter::getCount, SpaceSaving.Counter::getError)
+                .containsExactlyInAnyOrder(tuple("후라이드", 3L, 0L), tuple("간장", 3L, 1L))
+        );
+    }
+
+    @DisplayName("add - 수량이 0 이하면 예외가 발생한다")
+    @Test
+    void addNotPositive() {
+        //given
+        final SpaceSaving<String> sut = new SpaceSaving<>(2);
+
+        //when, then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> sut.add("후라이드", 0L));
+    }
+
+    @DisplayName("getCounters - 치우친 분포에서 상위 항목은 실제 순위와 같고, 모든 추정치는 오차 범위 안에 있다")
+    @Test
+    void accuracy() {
+        //given
+        final int keys = 5_000;
+        final double[] cumulative = new double[keys];
+        double total = 0;
+        for (int i = 0; i < keys; i++) {
+            total += 1 / Math.pow(i + 1, 1.1);
+            cumulative[i] = total;
+        }
+        final Random random = new Random(42L);
+        final long[] exact = new long[keys];
+        final SpaceSaving<Integer> sut = new SpaceSaving<>(100);
+
+        //when
+        for (int i = 0; i < 1_000_000; i++) {
+            final int found = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            final int key = found >= 0 ? found : -found - 1;
+            final long quantity = 1 + random.nextInt(3);
+            exact[key] += quantity;
+            sut.add(key, quantity);
+        }
+
+        //then
+        final List<SpaceSaving.Counter<Integer>> counters = sut.getCounters();
+        final List<Integer> exactTop = IntStream.range(0, keys)
+            .boxed()
+            .sorted(Comparator.comparingLong((Integer key) -> exact[key]).reversed())
+            .limit(10)
+            .collect(Collectors.toList());
+        assertAll(
+            () -> assertThat(counters).hasSize(100),
+            () -> assertThat(counters.subList(0, 10))
+                .extracting(SpaceSaving.Counter::getKey)
+                .containsExactlyElementsOf(exactTop),
+            () -> assertThat(counters).allSatisfy(counter -> assertThat(exact[counter.getKey()])
+                .isBetween(counter.getCount() - counter.getError(), counter.getCount())),
+            () -> assertThat(IntStream.range(0, keys).filter(key -> !sut.contains(key)))
+                .allSatisfy(key -> assertThat(exact[key]).isLessThanOrEqualTo(sut.getMinCount()))
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package kitchenpos.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1_000L;
+
+    @DisplayName("advance - 마감 시각이 지난 타이머만 꺼낸다")
+    @Test
+    void advance() {
+        //given
+        final TimingWheel<String> sut = new TimingWheel<>(TICK, 4, 0L);
+        sut.schedule("주문1", 3_000L);
+        sut.schedule("주문2", 3_500L);
+        final List<String> expired = new ArrayList<>();
+
+        //when
+        sut.advance(2_999L, (key, deadline) -> expired.add(key));
+        final List<String> beforeDeadline = new ArrayList<>(expired);
+        sut.advance(3_000L, (key, deadline) -> expired.add(key));
+
+        //then
+        assertAll(
+            () -> assertThat(beforeDeadline).isEmpty(),
+            () -> assertThat(expired).containsExactly("주문1"),
+            () -> assertThat(sut.contains("주문2")).isTrue(),
+            () -> assertThat(sut.size()).isOne()
+        );
+    }
+
+    @DisplayName("cancel, schedule - 취소한 타이머는 꺼내지 않고, 다시 등록하면 새 마감 시각을 따른다")
+    @Test
+    void cancelAndReschedule() {
+        //given
+        final TimingWheel<String> sut = new TimingWheel<>(TICK, 4, 0L);
+        sut.schedule("주문1", 3_000L);
+        sut.schedule("주문2", 3_000L);
+        final List<String> expired = new ArrayList<>();
+
+        //when
+        sut.cancel("주문1");
+        sut.schedule("주문2", 600_000L);
+        sut.advance(599_000L, (key, deadline) -> expired.add(key));
+        final List<String> beforeDeadline = new ArrayList<>(expired);
+        sut.advance(600_000L, (key, deadline) -> expired.add(key));
+
+        //then
+        assertAll(
+            () -> assertThat(beforeDeadline).isEmpty(),
+            () -> assertThat(expired).containsExactly("주문2"),
+            () -> assertThat(sut.size()).isZero()
+        );
+    }
+
+    @DisplayName("schedule - 바퀴가 감당할 수 있는 범위를 넘는 마감 시각은 예외가 발생한다")
+    @Test
+    void scheduleOutOfRange() {
+        //given
+        final TimingWheel<String> sut = new TimingWheel<>(TICK, 2, 0L);
+
+        //when, then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> sut.schedule("주문1", 64 * 64 * TICK));
+    }
+
+    @DisplayName("advance - 여러 단계에 걸친 타이머도 모두 정확한 틱에 꺼낸다")
+    @Test
+    void advanceHierarchical() {
+        //given
+        final long start = 123_456_789L;
+        final TimingWheel<Integer> sut = new TimingWheel<>(TICK, 4, start);
+        final Random random = new Random(42L);
+        final Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            final long deadline = start + 1 + random.nextInt(3 * 60 * 60 * 1_000);
+            deadlines.put(i, deadline);
+            sut.schedule(i, deadline);
+        }
+        for (int i = 0; i < 50_000; i += 2) {
+            sut.cancel(i);
+            deadlines.remove(i);
+        }
+        final Map<Integer, Long> firedAt = new HashMap<>();
+
+        //when
+        for (long now = start; now <= start + 3 * 60 * 60 * 1_000 + TICK; now += 7 * TICK) {
+            final long at = now;
+            sut.advance(at, (key, deadline) -> firedAt.put(key, at));
+        }
+
+        //then
+        assertAll(
+            () -> assertThat(sut.size()).isZero(),
+            () -> assertThat(firedAt).hasSameSizeAs(deadlines),
+            () -> assertThat(deadlines).allSatisfy((key, deadline) -> assertThat(firedAt.get(key))
+                .isBetween(deadline, deadline + 8 * TICK))
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(4, 4, 50, Duration.ofSeconds(30), clock::get);
+    }
+
+    @DisplayName("onFailure - 최근 호출의 실패율이 기준을 넘으면 회로를 열고 호출을 막는다")
+    @Test
+    void onFailure() {
+        //given
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        final CircuitBreaker.State beforeMinimumCalls = circuitBreaker.getState();
+
+        //when
+        circuitBreaker.onFailure();
+
+        //then
+        assertAll(
+            () -> assertThat(beforeMinimumCalls).isEqualTo(CircuitBreaker.State.CLOSED),
+            () -> assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN),
+            () -> assertThat(circuitBreaker.tryAcquirePermission()).isFalse()
+        );
+    }
+
+    @DisplayName("tryAcquirePermission - 열린 시간이 지나면 시험 호출 하나만 허용하고, 성공하면 회로를 닫는다")
+    @Test
+    void halfOpen() {
+        //given
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        //when
+        final boolean trial = circuitBreaker.tryAcquirePermission();
+        final boolean concurrent = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        //then
+        assertAll(
+            () -> assertThat(trial).isTrue(),
+            () -> assertThat(concurrent).isFalse(),
+            () -> assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED),
+            () -> assertThat(circuitBreaker.tryAcquirePermission()).isTrue()
+        );
+    }
+
+    @DisplayName("onFailure - 시험 호출이 실패하면 회로를 다시 연다")
+    @Test
+    void halfOpenFailed() {
+        //given
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        //when
+        circuitBreaker.onFailure();
+
+        //then
+        assertAll(
+            () -> assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN),
+            () -> assertThat(circuitBreaker.tryAcquirePermission()).isFalse()
+        );
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
@@ -26,7 +26,7 @@ class PurgomalumClientTest {
 
     @BeforeEach
     void setUp() {
-        purgomalumClient = new DefaultPurgomalumClient(restTemplateBuilder, objectMapper);
+        purgomalumClient = new DefaultPurgomalumClient(restTemplateBuilder, objectMapper, 2_000L);
     }
 
     @DisplayName("영어 욕을 필터링한다")
@@ -0,0 +1,208 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String CREATE_HEARTBEAT =
+        "create table replica_heartbeat (node_id varbinary(16) not null, beat_at bigint not null, primary key (node_id))";
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        replicaLagMonitor = new ReplicaLagMonitor(primary, replica, 500L, 2_000L, new SimpleMeterRegistry(), clock::get);
+        replicaRoutingDataSource = new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        new JdbcTemplate(primary).execute("drop all objects");
+        new JdbcTemplate(replica).execute("drop all objects");
+    }
+
+    @DisplayName("getConnection - 읽기 전용 트랜잭션은 복제본이 따라잡았을 때만 복제본으로 보낸다")
+    @Test
+    void routeReadOnly() throws SQLException {
+        //given
+        replicaLagMonitor.beat();
+        final String beforeReplicated = routeReadOnlyTransaction();
+        replicate();
+        clock.addAndGet(100L);
+        replicaLagMonitor.beat();
+
+        //when
+        final String sut = routeReadOnlyTransaction();
+
+        //then
+        assertAll(
+            () -> assertThat(beforeReplicated).contains("primary"),
+            () -> assertThat(sut).contains("replica"),
+            () -> assertThat(url(replicaRoutingDataSource)).contains("primary")
+        );
+    }
+
+    @DisplayName("getConnection - 복제 지연이 한도를 넘으면 읽기 전용 트랜잭션도 원본으로 보낸다")
+    @Test
+    void routeLagging() throws SQLException {
+        //given
+        replicaLagMonitor.beat();
+        replicate();
+        replicaLagMonitor.beat();
+        final String caughtUp = routeReadOnlyTransaction();
+
+        //when
+        clock.addAndGet(2_001L);
+
+        //then
+        assertAll(
+            () -> assertThat(caughtUp).contains("replica"),
+            () -> assertThat(replicaLagMonitor.getLagMillis()).isEqualTo(2_001L),
+            () -> assertThat(routeReadOnlyTransaction()).contains("primary")
+        );
+    }
+
+    @DisplayName("getConnection - 복제본에 아직 없는 쓰기를 한 클라이언트의 읽기는 원본으로 보낸다")
+    @Test
+    void routeReadYourWrites() throws Exception {
+        //given
+        replicaLagMonitor.beat();
+        replicate();
+        replicaLagMonitor.beat();
+        final ReadYourWritesFilter filter = new ReadYourWritesFilter(10_000L, clock::get);
+        final MockHttpServletResponse written = new MockHttpServletResponse();
+        clock.addAndGet(50L);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/orders"), written, (request, response) -> {
+        });
+        final Cookie readAfter = written.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        //when
+        final String sut = routeReadOnlyTransaction(filter, readAfter);
+        clock.addAndGet(50L);
+        replicaLagMonitor.beat();
+        replicate();
+        replicaLagMonitor.beat();
+        final String replicated = routeReadOnlyTransaction(filter, readAfter);
+
+        //then
+        assertAll(
+            () -> assertThat(readAfter.getValue()).isEqualTo("1050"),
+            () -> assertThat(readAfter.getMaxAge()).isEqualTo(10),
+            () -> assertThat(sut).contains("primary"),
+            () -> assertThat(replicated).contains("replica")
+        );
+    }
+
+    @DisplayName("doFilter - 실패한 쓰기 요청에는 읽기 기준 쿠키를 남기지 않는다")
+    @Test
+    void filterFailedWrite() throws Exception {
+        //given
+        final ReadYourWritesFilter filter = new ReadYourWritesFilter(10_000L, clock::get);
+        final MockHttpServletResponse written = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/orders"), written,
+            (request, response) -> ((HttpServletResponse) response).setStatus(400));
+
+        //then
+        assertThat(written.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+
+    @DisplayName("beat - 복제본을 읽을 수 없으면 읽기 전용 트랜잭션을 원본으로 보낸다")
+    @Test
+    void beatReplicaUnavailable() throws SQLException {
+        //given
+        replicaLagMonitor.beat();
+        replicate();
+        replicaLagMonitor.beat();
+        new JdbcTemplate(replica).execute("drop table replica_heartbeat");
+
+        //when
+        replicaLagMonitor.beat();
+
+        //then
+        assertAll(
+            () -> assertThat(replicaLagMonitor.getLagMillis()).isEqualTo(-1L),
+            () -> assertThat(routeReadOnlyTransaction()).contains("primary")
+        );
+    }
+
+    private String routeReadOnlyTransaction() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return url(replicaRoutingDataSource);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private String routeReadOnlyTransaction(final ReadYourWritesFilter filter, final Cookie readAfter) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.setCookies(readAfter);
+        final AtomicReference<String> url = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            try {
+                url.set(routeReadOnlyTransaction());
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return url.get();
+    }
+
+    private void replicate() {
+        final JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.update("delete from replica_heartbeat");
+        new JdbcTemplate(primary).query("select node_id, beat_at from replica_heartbeat", resultSet -> {
+            replicaTemplate.update(
+                "insert into replica_heartbeat (node_id, beat_at) values (?, ?)",
+                resultSet.getBytes("node_id"),
+                resultSet.getLong("beat_at")
+            );
+        });
+    }
+
+    private static String url(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    private static DataSource database(final String name) {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "sa",
+            ""
+        );
+        new JdbcTemplate(dataSource).execute(CREATE_HEARTBEAT);
+        return dataSource;
+    }
+}
@@ -0,0 +1,117 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductRepository;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+    "kitchenpos.datasource.replica.enabled=true",
+    "kitchenpos.datasource.replica.url=" + ReplicaSecondLevelCacheTest.REPLICA_URL,
+    "kitchenpos.datasource.replica.max-lag=60000"
+})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class ReplicaSecondLevelCacheTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:kitchenpos-replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final UUID PRODUCT_ID = UUID.fromString("7de4b8af-fa0f-4391-aaa9-c61ea9b40f83");
+    private static final BigDecimal STALE_PRICE = new BigDecimal("1.00");
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final ProductRepository productRepository;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+
+    public ReplicaSecondLevelCacheTest(
+        final EntityManagerFactory entityManagerFactory,
+        final ProductRepository productRepository,
+        final ReplicaLagMonitor replicaLagMonitor,
+        @Qualifier("primaryDataSource") final DataSource primaryDataSource,
+        final PlatformTransactionManager transactionManager
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.productRepository = productRepository;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeEach
+    void setUp() {
+        replica.execute("create table replica_heartbeat (node_id varbinary(16) not null, beat_at bigint not null, primary key (node_id))");
+        replica.execute("create table product (id varbinary(16) not null, name varchar(255) not null, price decimal(19, 2) not null, primary key (id))");
+        replica.update("insert into product (id, name, price) values (?, ?, ?)", toBytes(PRODUCT_ID), "순살치킨", STALE_PRICE);
+        replicaLagMonitor.beat();
+        primary.query("select node_id, beat_at from replica_heartbeat", resultSet -> {
+            replica.update("insert into replica_heartbeat (node_id, beat_at) values (?, ?)",
+                resultSet.getBytes("node_id"), resultSet.getLong("beat_at"));
+        });
+        replicaLagMonitor.beat();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.execute("drop all objects");
+    }
+
+    @DisplayName("읽기 전용 트랜잭션이 복제본에서 읽은 엔티티와 조회 결과는 2차 캐시에 넣지 않는다")
+    @Test
+    void replicaReadsDoNotPopulateCache() {
+        //given
+        final Statistics statistics = sessionFactory.getStatistics();
+        final List<UUID> ids = Collections.singletonList(PRODUCT_ID);
+        statistics.clear();
+
+        //when
+        final List<Product> replicaRead = readOnlyTransaction.execute(status -> productRepository.findAllByIdIn(ids));
+        final boolean cachedAfterReplicaRead = sessionFactory.getCache().containsEntity(Product.class, PRODUCT_ID);
+        final long queryCachePutsAfterReplicaRead = statistics.getQueryCachePutCount();
+        final List<Product> primaryRead = transaction.execute(status -> productRepository.findAllByIdIn(ids));
+
+        //then
+        assertAll(
+            () -> assertThat(replicaRead).singleElement()
+                .satisfies(product -> assertThat(product.getPrice()).isEqualByComparingTo(STALE_PRICE)),
+            () -> assertThat(cachedAfterReplicaRead).isFalse(),
+            () -> assertThat(queryCachePutsAfterReplicaRead).isZero(),
+            () -> assertThat(primaryRead).singleElement()
+                .satisfies(product -> assertThat(product.getPrice()).isNotEqualByComparingTo(STALE_PRICE)),
+            () -> assertThat(sessionFactory.getCache().containsEntity(Product.class, PRODUCT_ID)).isTrue()
+        );
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,229 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResilientClientTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LatencyPurgomalumClient stub = new LatencyPurgomalumClient();
+
+    private ClientResilience resilience;
+
+    @AfterEach
+    void tearDown() {
+        stub.release();
+        resilience.close();
+    }
+
+    @DisplayName("containsProfanity - 응답이 제한 시간을 넘으면 기다리지 않고 대체 응답을 반환한다")
+    @Test
+    void timeout() {
+        //given
+        final PurgomalumClient sut = purgomalumClient(10, 100L, ResilientPurgomalumClient.Fallback.DENY);
+        stub.latency(Duration.ofSeconds(5));
+
+        //when
+        final long startedAt = System.nanoTime();
+        final boolean result = sut.containsProfanity("치킨");
+        final long elapsed = System.nanoTime() - startedAt;
+
+        //then
+        assertAll(
+            () -> assertThat(result).isTrue(),
+            () -> assertThat(elapsed).isLessThan(Duration.ofSeconds(2).toNanos()),
+            () -> assertThat(meterRegistry.timer("kitchenpos.client.calls", "client", "purgomalum", "outcome", "timeout").count())
+                .isOne()
+        );
+    }
+
+    @DisplayName("containsProfanity - 실패가 쌓여 회로가 열리면 외부 서비스를 호출하지 않는다")
+    @Test
+    void circuitOpen() {
+        //given
+        final PurgomalumClient sut = purgomalumClient(10, 1_000L, ResilientPurgomalumClient.Fallback.ALLOW);
+        stub.failing();
+        for (int i = 0; i < 4; i++) {
+            sut.containsProfanity("치킨");
+        }
+        final int calls = stub.calls();
+
+        //when
+        final boolean result = sut.containsProfanity("치킨");
+
+        //then
+        assertAll(
+            () -> assertThat(result).isFalse(),
+            () -> assertThat(resilience.getState()).isEqualTo(CircuitBreaker.State.OPEN),
+            () -> assertThat(stub.calls()).isEqualTo(calls),
+            () -> assertThat(meterRegistry.counter("kitchenpos.client.rejections", "client", "purgomalum", "reason", "circuit_open").count())
+                .isOne()
+        );
+    }
+
+    @DisplayName("containsProfanity - 동시 호출 수가 격벽 크기를 넘으면 나머지는 바로 대체 응답을 받는다")
+    @Test
+    void bulkhead() throws Exception {
+        //given
+        final PurgomalumClient sut = purgomalumClient(2, 5_000L, ResilientPurgomalumClient.Fallback.DENY);
+        stub.blocking();
+        final ExecutorService callers = Executors.newFixedThreadPool(2);
+        final Future<Boolean> first = callers.submit(() -> sut.containsProfanity("후라이드"));
+        final Future<Boolean> second = callers.submit(() -> sut.containsProfanity("양념"));
+        stub.awaitCalls(2);
+
+        //when
+        final boolean rejected = sut.containsProfanity("간장");
+        stub.release();
+
+        //then
+        assertAll(
+            () -> assertThat(rejected).isTrue(),
+            () -> assertThat(first.get(5, TimeUnit.SECONDS)).isFalse(),
+            () -> assertThat(second.get(5, TimeUnit.SECONDS)).isFalse(),
+            () -> assertThat(stub.calls()).isEqualTo(2),
+            () -> assertThat(meterRegistry.counter("kitchenpos.client.rejections", "client", "purgomalum", "reason", "bulkhead_full").count())
+                .isOne()
+        );
+        callers.shutdown();
+    }
+
+    @DisplayName("requestDeliveries - 배달 대행 호출이 실패하면 설정에 따라 예외로 재시도를 알리거나 요청을 버리고 집계한다")
+    @Test
+    void kitchenridersFallback() {
+        //given
+        resilience = resilience("kitchenriders", 2, 1_000L);
+        final KitchenridersClient failing = deliveryRequests -> {
+            throw new IllegalStateException();
+        };
+        final KitchenridersClient retry =
+            new ResilientKitchenridersClient(failing, resilience, ResilientKitchenridersClient.Fallback.RETRY, meterRegistry);
+        final KitchenridersClient drop =
+            new ResilientKitchenridersClient(failing, resilience, ResilientKitchenridersClient.Fallback.DROP, meterRegistry);
+        final List<DeliveryRequest> deliveryRequests = Arrays.asList(
+            new DeliveryRequest(UUID.randomUUID(), BigDecimal.valueOf(16_000L), "서울시 송파구 위례성대로 2"),
+            new DeliveryRequest(UUID.randomUUID(), BigDecimal.valueOf(17_000L), "서울시 송파구 위례성대로 2")
+        );
+
+        //when, then
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> retry.requestDeliveries(deliveryRequests)),
+            () -> assertThatNoException()
+                .isThrownBy(() -> drop.requestDeliveries(deliveryRequests)),
+            () -> assertThat(meterRegistry.counter("kitchenpos.deliveries.dropped").count()).isEqualTo(2.0)
+        );
+    }
+
+    @DisplayName("requestDeliveries - 회로가 열려 호출이 거절되면 재시도 설정에서는 실패와 구분되는 예외를 던진다")
+    @Test
+    void kitchenridersRejected() {
+        //given
+        resilience = resilience("kitchenriders", 2, 1_000L);
+        final KitchenridersClient failing = deliveryRequests -> {
+            throw new IllegalStateException();
+        };
+        final KitchenridersClient sut =
+            new ResilientKitchenridersClient(failing, resilience, ResilientKitchenridersClient.Fallback.RETRY, meterRegistry);
+        for (int i = 0; i < 4; i++) {
+            assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> sut.requestDeliveries(Collections.emptyList()));
+        }
+
+        //when, then
+        assertAll(
+            () -> assertThat(resilience.getState()).isEqualTo(CircuitBreaker.State.OPEN),
+            () -> assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> sut.requestDeliveries(Collections.emptyList()))
+        );
+    }
+
+    private PurgomalumClient purgomalumClient(
+        final int maxConcurrentCalls,
+        final long timeoutMillis,
+        final ResilientPurgomalumClient.Fallback fallback
+    ) {
+        resilience = resilience("purgomalum", maxConcurrentCalls, timeoutMillis);
+        return new ResilientPurgomalumClient(stub, resilience, fallback);
+    }
+
+    private ClientResilience resilience(final String name, final int maxConcurrentCalls, final long timeoutMillis) {
+        return new ClientResilience(
+            name,
+            new CircuitBreaker(4, 4, 50, Duration.ofSeconds(30)),
+            maxConcurrentCalls,
+            Duration.ofMillis(timeoutMillis),
+            meterRegistry
+        );
+    }
+
+    private static class LatencyPurgomalumClient implements PurgomalumClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile Duration latency = Duration.ZERO;
+        private volatile boolean failing;
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Override
+        public boolean containsProfanity(final String text) {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(latency.toMillis());
+                gate.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (failing) {
+                throw new IllegalStateException();
+            }
+            return false;
+        }
+
+        private void latency(final Duration latency) {
+            this.latency = latency;
+        }
+
+        private void failing() {
+            this.failing = true;
+        }
+
+        private void blocking() {
+            this.gate = new CountDownLatch(1);
+        }
+
+        private void release() {
+            gate.countDown();
+        }
+
+        private int calls() {
+            return calls.get();
+        }
+
+        private void awaitCalls(final int expected) throws InterruptedException {
+            while (calls.get() < expected) {
+                Thread.sleep(10L);
+            }
+        }
+    }
+}
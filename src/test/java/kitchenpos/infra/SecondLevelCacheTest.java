@@ -0,0 +1,176 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import kitchenpos.application.MenuService;
+import kitchenpos.application.ProductService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductRepository;
+import org.hibernate.annotations.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+
+import javax.cache.CacheManager;
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@SpringBootTest
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class SecondLevelCacheTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("7de4b8af-fa0f-4391-aaa9-c61ea9b40f83");
+    private static final UUID MENU_ID = UUID.fromString("a64af6ca-c34d-4cd8-82fe-454abf512d1f");
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheManager hibernateCacheManager;
+    private final ProductRepository productRepository;
+    private final MenuRepository menuRepository;
+    private final ProductService productService;
+    private final MenuService menuService;
+    private Statistics statistics;
+    private BigDecimal productPrice;
+    private BigDecimal menuPrice;
+
+    public SecondLevelCacheTest(
+        final EntityManagerFactory entityManagerFactory,
+        final CacheManager hibernateCacheManager,
+        final ProductRepository productRepository,
+        final MenuRepository menuRepository,
+        final ProductService productService,
+        final MenuService menuService
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.hibernateCacheManager = hibernateCacheManager;
+        this.productRepository = productRepository;
+        this.menuRepository = menuRepository;
+        this.productService = productService;
+        this.menuService = menuService;
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = sessionFactory.getStatistics();
+        productPrice = productRepository.findById(PRODUCT_ID).get().getPrice();
+        menuPrice = menuRepository.findById(MENU_ID).get().getPrice();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productService.changePrice(PRODUCT_ID, product(productPrice));
+        menuService.changePrice(MENU_ID, menu(menuPrice));
+    }
+
+    @DisplayName("엔티티는 @Cache 에 지정한 리전에 캐시된다")
+    @ParameterizedTest
+    @ValueSource(classes = {Product.class, Menu.class, MenuGroup.class, MenuProduct.class})
+    void entityRegion(final Class<?> entityClass) {
+        final String region = sessionFactory.getMetamodel()
+            .entityPersister(entityClass)
+            .getCacheAccessStrategy()
+            .getRegion()
+            .getName();
+        assertThat(region).isEqualTo(entityClass.getAnnotation(Cache.class).region());
+    }
+
+    @DisplayName("하이버네이트가 사용하는 리전은 모두 캐시 매니저에 미리 만들어 둔 캐시다")
+    @Test
+    void regions() {
+        final Set<String> regions = new HashSet<>(sessionFactory.getCache().getCacheRegionNames());
+        regions.add(sessionFactory.getCache().getTimestampsCache().getRegion().getName());
+        assertThat(hibernateCacheManager.getCacheNames()).containsExactlyInAnyOrderElementsOf(regions);
+    }
+
+    @DisplayName("findAllByIdIn - 같은 조회를 반복하면 쿼리 캐시와 엔티티 캐시에서 읽는다")
+    @Test
+    void findAllByIdInHit() {
+        //given
+        final List<UUID> ids = Collections.singletonList(PRODUCT_ID);
+        productRepository.findAllByIdIn(ids);
+        statistics.clear();
+
+        //when
+        final List<Product> actual = productRepository.findAllByIdIn(ids);
+
+        //then
+        assertAll(
+            () -> assertThat(actual).extracting(Product::getId).containsExactly(PRODUCT_ID),
+            () -> assertThat(statistics.getQueryCacheHitCount()).isOne(),
+            () -> assertThat(statistics.getSecondLevelCacheHitCount()).isOne(),
+            () -> assertThat(statistics.getPrepareStatementCount()).isZero()
+        );
+    }
+
+    @DisplayName("changePrice - 상품 가격을 바꾸면 캐시된 조회 결과를 무효화한다")
+    @Test
+    void changeProductPriceInvalidates() {
+        //given
+        final List<UUID> ids = Collections.singletonList(PRODUCT_ID);
+        productRepository.findAllByIdIn(ids);
+        final BigDecimal expected = productPrice.add(BigDecimal.valueOf(1_000L));
+        productService.changePrice(PRODUCT_ID, product(expected));
+        statistics.clear();
+
+        //when
+        final List<Product> actual = productRepository.findAllByIdIn(ids);
+
+        //then
+        assertAll(
+            () -> assertThat(actual).singleElement()
+                .satisfies(product -> assertThat(product.getPrice()).isEqualByComparingTo(expected)),
+            () -> assertThat(statistics.getQueryCacheHitCount()).isZero(),
+            () -> assertThat(statistics.getQueryCacheMissCount()).isOne()
+        );
+    }
+
+    @DisplayName("changePrice - 메뉴 가격을 바꾸면 캐시된 조회 결과를 무효화한다")
+    @Test
+    void changeMenuPriceInvalidates() {
+        //given
+        final List<UUID> ids = Collections.singletonList(MENU_ID);
+        menuRepository.findAllByIdIn(ids);
+        final BigDecimal expected = menuPrice.subtract(BigDecimal.valueOf(1_000L));
+        menuService.changePrice(MENU_ID, menu(expected));
+        statistics.clear();
+
+        //when
+        final List<Menu> actual = menuRepository.findAllByIdIn(ids);
+
+        //then
+        assertAll(
+            () -> assertThat(actual).singleElement()
+                .satisfies(menu -> assertThat(menu.getPrice()).isEqualByComparingTo(expected)),
+            () -> assertThat(statistics.getQueryCacheHitCount()).isZero(),
+            () -> assertThat(statistics.getQueryCacheMissCount()).isOne()
+        );
+    }
+
+    private Product product(final BigDecimal price) {
+        final Product product = new Product();
+        product.setPrice(price);
+        return product;
+    }
+
+    private Menu menu(final BigDecimal price) {
+        final Menu menu = new Menu();
+        menu.setPrice(price);
+        return menu;
+    }
+}
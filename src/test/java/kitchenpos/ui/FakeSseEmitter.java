@@ -0,0 +1,60 @@
+package kitchenpos.ui;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class FakeSseEmitter extends SseEmitter {
+
+    private final List<Set<DataWithMediaType>> events = new ArrayList<>();
+    private Runnable onSend = () -> {
+    };
+    private IOException failure;
+    private Throwable completedWith;
+
+    @Override
+    public void send(final SseEventBuilder builder) throws IOException {
+        onSend.run();
+        if (failure != null) {
+            throw failure;
+        }
+        events.add(builder.build());
+    }
+
+    @Override
+    public synchronized void completeWithError(final Throwable ex) {
+        completedWith = ex;
+    }
+
+    public void onSend(final Runnable onSend) {
+        this.onSend = onSend;
+    }
+
+    public void fail(final IOException failure) {
+        this.failure = failure;
+    }
+
+    public List<String> getEventNames() {
+        final List<String> names = new ArrayList<>();
+        for (final Set<DataWithMediaType> event : events) {
+            final String header = (String) event.iterator().next().getData();
+            names.add(header.substring("event:".length(), header.indexOf('\n')));
+        }
+        return names;
+    }
+
+    public List<Object> getEventData() {
+        final List<Object> data = new ArrayList<>();
+        for (final Set<DataWithMediaType> event : events) {
+            data.add(new ArrayList<>(event).get(1).getData());
+        }
+        return data;
+    }
+
+    public Throwable getCompletedWith() {
+        return completedWith;
+    }
+}
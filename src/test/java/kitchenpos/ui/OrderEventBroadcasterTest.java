@@ -0,0 +1,163 @@
+package kitchenpos.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import kitchenpos.domain.OrderLineItemSummary;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderEventBroadcasterTest {
+
+    private static final int BUFFER_SIZE = 2;
+    private static final long SEND_TIMEOUT = 1_000L;
+
+    private final OrderEventBroadcaster orderEventBroadcaster = new OrderEventBroadcaster(BUFFER_SIZE, 60_000L, SEND_TIMEOUT);
+    private final FakeSseEmitter emitter = new FakeSseEmitter();
+
+    @AfterEach
+    void tearDown() {
+        orderEventBroadcaster.close();
+    }
+
+    @DisplayName("offer - 전송 대기 중인 구독자는 다시 전송을 예약하지 않는다")
+    @Test
+    void offerSchedulesOnce() {
+        //given
+        final OrderEventBroadcaster.Subscriber subscriber = orderEventBroadcaster.register(emitter);
+
+        //when
+        final boolean first = subscriber.offer("order-created", order(UUID.randomUUID(), OrderStatus.WAITING));
+        final boolean second = subscriber.offer("order-created", order(UUID.randomUUID(), OrderStatus.WAITING));
+        subscriber.drain();
+        final boolean third = subscriber.offer("order-created", order(UUID.randomUUID(), OrderStatus.WAITING));
+
+        //then
+        assertAll(
+            () -> assertThat(first).isTrue(),
+            () -> assertThat(second).isFalse(),
+            () -> assertThat(third).isTrue()
+        );
+    }
+
+    @DisplayName("drain - 같은 주문의 이벤트는 생성 시의 주문 항목을 유지한 최신 상태 하나로 합쳐 전송한다")
+    @Test
+    void drainCoalesces() {
+        //given
+        final UUID orderId = UUID.randomUUID();
+        final OrderSummary created = order(orderId, OrderStatus.WAITING);
+        created.addOrderLineItem(new OrderLineItemSummary(UUID.randomUUID(), "후라이드", 1_600_000L, 2L));
+        final OrderEventBroadcaster.Subscriber subscriber = orderEventBroadcaster.register(emitter);
+        subscriber.offer("order-created", created);
+        subscriber.offer("order-status-changed", order(orderId, OrderStatus.ACCEPTED));
+
+        //when
+        subscriber.drain();
+
+        //then
+        assertAll(
+            () -> assertThat(emitter.getEventNames()).containsExactly("order-created"),
+            () -> assertThat(emitter.getEventData())
+                .singleElement()
+                .isInstanceOfSatisfying(OrderSummary.class, sut -> assertAll(
+                    () -> assertThat(sut.getStatus()).isEqualTo(OrderStatus.ACCEPTED),
+                    () -> assertThat(sut.getOrderLineItems()).isEqualTo(created.getOrderLineItems())
+                ))
+        );
+    }
+
+    @DisplayName("drain - 버퍼가 넘치면 가장 오래된 이벤트를 버리고 resync 이벤트를 먼저 전송한다")
+    @Test
+    void drainOverflow() {
+        //given
+        final OrderSummary first = order(UUID.randomUUID(), OrderStatus.WAITING);
+        final OrderSummary second = order(UUID.randomUUID(), OrderStatus.WAITING);
+        final OrderSummary third = order(UUID.randomUUID(), OrderStatus.WAITING);
+        final OrderEventBroadcaster.Subscriber subscriber = orderEventBroadcaster.register(emitter);
+        subscriber.offer("order-created", first);
+        subscriber.offer("order-created", second);
+        subscriber.offer("order-created", third);
+
+        //when
+        subscriber.drain();
+
+        //then
+        assertAll(
+            () -> assertThat(emitter.getEventNames()).containsExactly("resync", "order-created", "order-created"),
+            () -> assertThat(emitter.getEventData()).containsExactly("", second, third)
+        );
+    }
+
+    @DisplayName("drain - 전송에 실패한 구독자는 제거한다")
+    @Test
+    void drainDropsDeadEmitter() {
+        //given
+        final IOException failure = new IOException();
+        final OrderEventBroadcaster.Subscriber subscriber = orderEventBroadcaster.register(emitter);
+        subscriber.offer("order-created", order(UUID.randomUUID(), OrderStatus.WAITING));
+        emitter.fail(failure);
+
+        //when
+        subscriber.drain();
+
+        //then
+        assertAll(
+            () -> assertThat(orderEventBroadcaster.getSubscriberCount()).isZero(),
+            () -> assertThat(emitter.getCompletedWith()).isSameAs(failure)
+        );
+    }
+
+    @DisplayName("evictStalled - 전송 제한 시간을 넘긴 구독자는 제거하고 전송이 끝나면 연결을 닫는다")
+    @Test
+    void evictStalled() {
+        //given
+        final OrderEventBroadcaster.Subscriber subscriber = orderEventBroadcaster.register(emitter);
+        final OrderEventBroadcaster.Subscriber other = orderEventBroadcaster.register(new FakeSseEmitter());
+        subscriber.offer("order-created", order(UUID.randomUUID(), OrderStatus.WAITING));
+        subscriber.offer("order-created", order(UUID.randomUUID(), OrderStatus.WAITING));
+        emitter.onSend(() -> orderEventBroadcaster.evictStalled(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SEND_TIMEOUT * 2)));
+
+        //when
+        subscriber.drain();
+
+        //then
+        assertAll(
+            () -> assertThat(orderEventBroadcaster.getSubscriberCount()).isOne(),
+            () -> assertThat(emitter.getEventNames()).hasSize(1),
+            () -> assertThat(emitter.getCompletedWith()).isInstanceOf(TimeoutException.class),
+            () -> assertThat(other.offer("order-created", order(UUID.randomUUID(), OrderStatus.WAITING))).isTrue()
+        );
+    }
+
+    @DisplayName("evictStalled - 전송 중이 아니거나 제한 시간 안의 구독자는 유지한다")
+    @Test
+    void evictStalledKeepsHealthy() {
+        //given
+        final OrderEventBroadcaster.Subscriber subscriber = orderEventBroadcaster.register(emitter);
+        subscriber.offer("order-created", order(UUID.randomUUID(), OrderStatus.WAITING));
+        emitter.onSend(() -> orderEventBroadcaster.evictStalled(System.nanoTime()));
+
+        //when
+        subscriber.drain();
+        orderEventBroadcaster.evictStalled(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SEND_TIMEOUT * 2));
+
+        //then
+        assertAll(
+            () -> assertThat(orderEventBroadcaster.getSubscriberCount()).isOne(),
+            () -> assertThat(emitter.getCompletedWith()).isNull()
+        );
+    }
+
+    private OrderSummary order(final UUID id, final OrderStatus status) {
+        return new OrderSummary(id, OrderType.TAKEOUT, status, LocalDateTime.of(2021, 8, 1, 12, 0), null, null, 0L);
+    }
+}